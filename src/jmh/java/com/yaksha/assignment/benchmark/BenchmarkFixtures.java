@@ -0,0 +1,68 @@
+package com.yaksha.assignment.benchmark;
+
+import java.time.Duration;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.yaksha.assignment.controller.ProductController;
+import com.yaksha.assignment.exception.ErrorReporter;
+import com.yaksha.assignment.exception.ErrorResponseCache;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GlobalExceptionHandler;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.ProductCache;
+import com.yaksha.assignment.service.ProductService;
+import com.yaksha.assignment.service.SingleFlight;
+
+// Wires the application components by hand, with the defaults from application.properties
+final class BenchmarkFixtures {
+
+	static final int CATALOG_SIZE = 1000;
+
+	private BenchmarkFixtures() {
+	}
+
+	static ExceptionFactory exceptionFactory(boolean lightweight) {
+		return new ExceptionFactory(lightweight, false, errorReporter());
+	}
+
+	static ErrorResponseCache errorResponseCache() {
+		return new ErrorResponseCache(1024, Duration.ofSeconds(10));
+	}
+
+	static ProductCache productCache() {
+		return new ProductCache(true, 10000, Duration.ofMinutes(10), 10000, Duration.ofSeconds(30));
+	}
+
+	static ProductService productService(boolean lightweightExceptions) {
+		return new ProductService(new ProductRepository(CATALOG_SIZE), productCache(), new SingleFlight(true, Duration.ofSeconds(2)),
+				exceptionFactory(lightweightExceptions));
+	}
+
+	static ProductController productController(String lookupMode) {
+		return productController(lookupMode, new ProductMetrics());
+	}
+
+	static ProductController productController(String lookupMode, ProductMetrics metrics) {
+		return new ProductController(productService(true), errorResponseCache(), new ProblemJsonWriter(),
+				exceptionFactory(true), metrics, lookupMode, 100, Duration.ofSeconds(60));
+	}
+
+	static ErrorReporter errorReporter() {
+		return new ErrorReporter(true, 1024, Duration.ofSeconds(60), 0.01, 1024);
+	}
+
+	static GlobalExceptionHandler exceptionHandler() {
+		return new GlobalExceptionHandler(errorResponseCache(), new ProblemJsonWriter(), new ProductMetrics(),
+				errorReporter());
+	}
+
+	// Standalone DispatcherServlet setup: real handler mapping, argument resolution and exception resolvers
+	static MockMvc mockMvc(String lookupMode) {
+		return MockMvcBuilders.standaloneSetup(productController(lookupMode))
+				.setControllerAdvice(exceptionHandler()).build();
+	}
+}
@@ -0,0 +1,52 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.yaksha.assignment.controller.ProductController;
+
+// Direct ProductController.getProduct calls, without any Spring MVC dispatch
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ControllerBenchmark {
+
+	@Param({ "10", "notfound", "invalid", "generic" })
+	public String id;
+
+	private ProductController controller;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setup() {
+		request = new MockHttpServletRequest("GET", "/products/" + id);
+		response = new MockHttpServletResponse();
+		controller = BenchmarkFixtures.productController("exceptions");
+	}
+
+	@Benchmark
+	public Object getProduct() throws Exception {
+		try {
+			return controller.getProduct(id, request, response);
+		} catch (RuntimeException ex) {
+			return ex;
+		}
+	}
+}
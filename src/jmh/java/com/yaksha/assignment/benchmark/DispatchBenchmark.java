@@ -0,0 +1,46 @@
+package com.yaksha.assignment.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// Full-stack dispatch through the DispatcherServlet, including exception resolution
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+	@Param({ "10", "notfound", "invalid", "generic" })
+	public String id;
+
+	private MockMvc mockMvc;
+	private RequestBuilder request;
+
+	@Setup
+	public void setup() {
+		mockMvc = BenchmarkFixtures.mockMvc("exceptions");
+		request = get("/products/" + id);
+	}
+
+	@Benchmark
+	public int dispatch() throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse().getStatus();
+	}
+}
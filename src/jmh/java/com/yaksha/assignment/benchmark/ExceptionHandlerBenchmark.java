@@ -0,0 +1,63 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.exception.GlobalExceptionHandler;
+import com.yaksha.assignment.exception.ResourceNotFoundException;
+import com.yaksha.assignment.exception.ValidationException;
+
+// Direct invocation of each GlobalExceptionHandler method with a prebuilt exception
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+	private GlobalExceptionHandler handler;
+	private ResourceNotFoundException notFound;
+	private ValidationException validation;
+	private GenericException generic;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setup() {
+		handler = BenchmarkFixtures.exceptionHandler();
+		request = new MockHttpServletRequest("GET", "/products/notfound");
+		response = new MockHttpServletResponse();
+		notFound = new ResourceNotFoundException("Product with ID notfound not found.");
+		validation = new ValidationException("Invalid product ID: invalid");
+		generic = new GenericException(GenericException.DEFAULT_MESSAGE);
+	}
+
+	@Benchmark
+	public Object handleResourceNotFound() throws Exception {
+		return handler.handleResourceNotFound(notFound, request, response);
+	}
+
+	@Benchmark
+	public Object handleValidationException() throws Exception {
+		return handler.handleValidationException(validation, request, response);
+	}
+
+	@Benchmark
+	public Object handleGenericException() throws Exception {
+		return handler.handleGenericException(generic, request, response);
+	}
+}
@@ -0,0 +1,81 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yaksha.assignment.exception.ExceptionFactory;
+
+// Construction cost and throws per second for each business exception, with and without lightweight mode
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionThrowBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean lightweight;
+
+	private ExceptionFactory exceptions;
+	private String id;
+
+	@Setup
+	public void setup() {
+		exceptions = BenchmarkFixtures.exceptionFactory(lightweight);
+		id = "notfound";
+	}
+
+	@Benchmark
+	public Object constructResourceNotFound() {
+		return exceptions.notFound("Product with ID " + id + " not found.");
+	}
+
+	@Benchmark
+	public Object constructValidation() {
+		return exceptions.validation("Invalid product ID: " + id);
+	}
+
+	@Benchmark
+	public Object constructGeneric() {
+		return exceptions.generic();
+	}
+
+	@Benchmark
+	public Object throwResourceNotFound() {
+		try {
+			throw exceptions.notFound("Product with ID " + id + " not found.");
+		} catch (RuntimeException ex) {
+			return ex;
+		}
+	}
+
+	@Benchmark
+	public Object throwValidation() {
+		try {
+			throw exceptions.validation("Invalid product ID: " + id);
+		} catch (RuntimeException ex) {
+			return ex;
+		}
+	}
+
+	@Benchmark
+	public Object throwGeneric() {
+		try {
+			throw exceptions.generic();
+		} catch (RuntimeException ex) {
+			return ex;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yaksha.assignment.utils.CheckPlan;
+import com.yaksha.assignment.utils.JavaParserUtils;
+
+/**
+ * {@code checks} structural checks on ProductController.java: one parse per
+ * check (the behaviour before the AST cache), per-check calls against the
+ * cached tree, and a CheckPlan evaluating them all in one traversal, with a
+ * cold and a warm cache. Run from the project directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaParserChecksBenchmark {
+
+	private static final String FILE = "src/main/java/com/yaksha/assignment/controller/ProductController.java";
+	private static final List<String> KEYWORDS = List.of("ResponseEntity", "ok()");
+
+	@Param({ "100", "300" })
+	public int checks;
+
+	@Benchmark
+	public int perCallUncached() {
+		int passed = 0;
+		for (int i = 0; i < checks; i++) {
+			JavaParserUtils.clearCache();
+			passed += perCall(i) ? 1 : 0;
+		}
+		return passed;
+	}
+
+	@Benchmark
+	public int perCallCached() {
+		int passed = 0;
+		for (int i = 0; i < checks; i++) {
+			passed += perCall(i) ? 1 : 0;
+		}
+		return passed;
+	}
+
+	@Benchmark
+	public boolean checkPlanColdCache() {
+		JavaParserUtils.clearCache();
+		return plan().run().passed();
+	}
+
+	@Benchmark
+	public boolean checkPlanWarmCache() {
+		return plan().run().passed();
+	}
+
+	// The same five checks, cycled
+	private static boolean perCall(int i) {
+		switch (i % 5) {
+		case 0:
+			return JavaParserUtils.checkClassAnnotation(FILE, "RestController");
+		case 1:
+			return JavaParserUtils.checkMethodAnnotation(FILE, "getProduct", "GetMapping");
+		case 2:
+			return JavaParserUtils.checkMethodParameterAnnotation(FILE, "getProduct", "id", "PathVariable");
+		case 3:
+			return JavaParserUtils.checkMethodReturnType(FILE, "getProducts", "List<ProductBatchItem>");
+		default:
+			return JavaParserUtils.checkStatusKeywordsInMethod(FILE, "toFoundResponse", KEYWORDS);
+		}
+	}
+
+	private CheckPlan plan() {
+		CheckPlan plan = CheckPlan.forFile(FILE);
+		for (int i = 0; i < checks; i++) {
+			switch (i % 5) {
+			case 0 -> plan.classAnnotation("RestController");
+			case 1 -> plan.methodAnnotation("getProduct", "GetMapping");
+			case 2 -> plan.methodParameterAnnotation("getProduct", "id", "PathVariable");
+			case 3 -> plan.methodReturnType("getProducts", "List<ProductBatchItem>");
+			default -> plan.statusKeywords("toFoundResponse", KEYWORDS);
+			}
+		}
+		return plan;
+	}
+}
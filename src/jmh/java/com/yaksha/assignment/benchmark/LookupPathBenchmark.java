@@ -0,0 +1,61 @@
+package com.yaksha.assignment.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Latency distribution (sample mode reports p50/p99) of exception-based versus
+ * outcome-based lookups through the DispatcherServlet, under a miss-heavy mix:
+ * 80% not found, 10% invalid, 5% generic failure, 5% found.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupPathBenchmark {
+
+	private static final String[] MIX = new String[20];
+
+	static {
+		for (int i = 0; i < MIX.length; i++) {
+			MIX[i] = "notfound";
+		}
+		MIX[3] = "invalid";
+		MIX[11] = "invalid";
+		MIX[7] = "generic";
+		MIX[15] = "10";
+	}
+
+	@Param({ "exceptions", "outcomes" })
+	public String mode;
+
+	private MockMvc mockMvc;
+	private int next;
+
+	@Setup
+	public void setup() {
+		mockMvc = BenchmarkFixtures.mockMvc(mode);
+	}
+
+	@Benchmark
+	public int missHeavyMix() throws Exception {
+		String id = MIX[next++ % MIX.length];
+		return mockMvc.perform(get("/products/" + id)).andReturn().getResponse().getStatus();
+	}
+}
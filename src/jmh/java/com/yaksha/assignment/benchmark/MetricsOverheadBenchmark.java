@@ -0,0 +1,62 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.yaksha.assignment.controller.ProductController;
+import com.yaksha.assignment.metrics.ProductMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of the lookup instrumentation: the same controller call with
+ * ProductMetrics unbound (no-op meters) and bound to a registry. Run with
+ * {@code -prof gc} to confirm the bound path adds no allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean bound;
+
+	@Param({ "10", "987654321" })
+	public String id;
+
+	private ProductController controller;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setup() {
+		request = new MockHttpServletRequest("GET", "/products/" + id);
+		response = new MockHttpServletResponse();
+		ProductMetrics metrics = new ProductMetrics();
+		if (bound) {
+			metrics.bindTo(new SimpleMeterRegistry());
+		}
+		controller = BenchmarkFixtures.productController("outcomes", metrics);
+	}
+
+	@Benchmark
+	public Object getProduct() throws Exception {
+		return controller.getProduct(id, request, response);
+	}
+}
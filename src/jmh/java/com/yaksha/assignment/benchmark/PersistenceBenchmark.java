@@ -0,0 +1,88 @@
+package com.yaksha.assignment.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.yaksha.assignment.ExceptionHandlingApplication;
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.service.ProductImportService;
+
+/**
+ * Bulk import throughput against an in-memory H2 database, with the default
+ * configuration from application.properties and with the {@code persistence}
+ * profile (JDBC batching, ordered inserts). Each operation imports
+ * {@code products} new products through ProductImportService.
+ * <p>
+ * H2 has no server-side statement cache or batch rewriting, so the MySQL
+ * driver settings of the profile are ignored here; the difference measured is
+ * Hibernate batching versus one round trip per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.devtools.restart.enabled=false")
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+	@Param({ "default", "persistence" })
+	public String profile;
+
+	@Param({ "5000" })
+	public int products;
+
+	private ConfigurableApplicationContext context;
+	private ProductImportService importer;
+	private long nextId = 1_000_000;
+
+	@Setup(Level.Trial)
+	public void start() {
+		// command-line arguments, so they take precedence over application.properties
+		String[] args = { "--spring.datasource.url=jdbc:h2:mem:" + profile + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+				"--spring.datasource.username=sa", "--spring.datasource.password=",
+				"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create" };
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(ExceptionHandlingApplication.class)
+				.web(WebApplicationType.NONE);
+		if (!"default".equals(profile)) {
+			builder.profiles(profile);
+		}
+		context = builder.run(args);
+		importer = context.getBean(ProductImportService.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public int importProducts() {
+		List<Product> batch = new ArrayList<>(products);
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < products; i++) {
+			long id = nextId++;
+			batch.add(new Product(id, "Imported " + id, 100 * id, 1, now));
+		}
+		return importer.importAll(batch);
+	}
+}
@@ -0,0 +1,91 @@
+package com.yaksha.assignment.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Closed-loop HTTP load test against a running application, for comparing the
+ * platform-thread and virtual-thread request modes.
+ * <p>
+ * Start the application once per mode (for example with
+ * {@code spring.threads.virtual.enabled=true}, and
+ * {@code server.tomcat.max-connections} above the highest concurrency level),
+ * then run:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.yaksha.assignment.benchmark.ProductLoadTest \
+ *     -Dbenchmark.result.args= -Dbenchmark.args="http://localhost:8081 1000,10000,50000 30"
+ * </pre>
+ *
+ * Arguments: base URL, comma-separated concurrency levels, seconds per level.
+ * Each level reports throughput and p50/p99/p99.9 latency over a request mix
+ * of found, not-found, invalid and generic IDs. The client process needs a file
+ * descriptor limit above the highest concurrency level.
+ */
+public final class ProductLoadTest {
+
+	private static final String[] IDS = { "10", "notfound", "20", "invalid", "30", "987654321", "generic", "40" };
+
+	private ProductLoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+		String levels = args.length > 1 ? args[1] : "1000,10000,50000";
+		int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(30)).build();
+		System.out.printf("%-12s %12s %10s %10s %10s %10s%n", "connections", "req/s", "p50 ms", "p99 ms",
+				"p99.9 ms", "errors");
+		for (String level : levels.split(",")) {
+			run(client, baseUrl, Integer.parseInt(level.trim()), seconds);
+		}
+	}
+
+	private static void run(HttpClient client, String baseUrl, int connections, int seconds)
+			throws InterruptedException {
+		Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+		AtomicLong completed = new AtomicLong();
+		AtomicLong errors = new AtomicLong();
+		Semaphore inFlight = new Semaphore(connections);
+		HttpRequest[] requests = new HttpRequest[IDS.length];
+		for (int i = 0; i < IDS.length; i++) {
+			requests[i] = HttpRequest.newBuilder(URI.create(baseUrl + "/products/" + IDS[i]))
+					.timeout(Duration.ofSeconds(60)).GET().build();
+		}
+
+		long start = System.nanoTime();
+		long end = start + TimeUnit.SECONDS.toNanos(seconds);
+		for (long n = 0; System.nanoTime() < end; n++) {
+			inFlight.acquire();
+			long sent = System.nanoTime();
+			client.sendAsync(requests[(int) (n % requests.length)], HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, failure) -> {
+						if (failure != null) {
+							errors.incrementAndGet();
+						} else {
+							latencies.recordValue(System.nanoTime() - sent);
+							completed.incrementAndGet();
+						}
+						inFlight.release();
+					});
+		}
+		inFlight.acquire(connections);
+		double elapsed = (System.nanoTime() - start) / 1e9;
+
+		System.out.printf("%-12d %12.0f %10.2f %10.2f %10.2f %10d%n", connections, completed.get() / elapsed,
+				latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+				latencies.getValueAtPercentile(99.9) / 1e6, errors.get());
+	}
+}
@@ -0,0 +1,117 @@
+package com.yaksha.assignment.benchmark;
+
+import java.io.File;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time from process launch to the first successful
+ * {@code GET /products/10} for each startup configuration.
+ * <p>
+ * Build the exploded application and CDS archive first, then run:
+ *
+ * <pre>
+ * mvn -Pstartup package
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.yaksha.assignment.benchmark.StartupBenchmark \
+ *     -Dbenchmark.result.args= -Dbenchmark.args="target 5"
+ * </pre>
+ *
+ * Arguments: the build directory holding {@code cds/}, and launches per
+ * configuration. Configurations: {@code default} (application.properties
+ * only), {@code startup} (lazy beans and JPA bootstrapping), {@code aot}
+ * (startup plus AOT-processed classes) and {@code aot+cds} (plus the
+ * class-data-sharing archive). Each reports the fastest and median launch.
+ */
+public final class StartupBenchmark {
+
+	private static final String MAIN_CLASS = "com.yaksha.assignment.ExceptionHandlingApplication";
+	private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(3);
+
+	private StartupBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		File buildDir = new File(args.length > 0 ? args[0] : "target").getAbsoluteFile();
+		int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		String archive = new File(buildDir, "cds/app.jsa").getPath();
+
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+		System.out.printf("%-10s %10s %10s%n", "config", "min ms", "median ms");
+		run(client, buildDir, runs, "default", List.of(), List.of());
+		run(client, buildDir, runs, "startup", List.of(), List.of("--spring.profiles.active=startup"));
+		run(client, buildDir, runs, "aot", List.of("-Dspring.aot.enabled=true"),
+				List.of("--spring.profiles.active=startup"));
+		run(client, buildDir, runs, "aot+cds",
+				List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive, "-Xshare:auto"),
+				List.of("--spring.profiles.active=startup"));
+	}
+
+	private static void run(HttpClient client, File buildDir, int runs, String name, List<String> jvmArgs,
+			List<String> appArgs) throws Exception {
+		long[] millis = new long[runs];
+		for (int i = 0; i < runs; i++) {
+			millis[i] = launch(client, buildDir, jvmArgs, appArgs);
+		}
+		Arrays.sort(millis);
+		System.out.printf("%-10s %10d %10d%n", name, millis[0], millis[runs / 2]);
+	}
+
+	private static long launch(HttpClient client, File buildDir, List<String> jvmArgs, List<String> appArgs)
+			throws Exception {
+		int port = freePort();
+		// same classpath as the CDS training run, or the archive is not used
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + "/bin/java");
+		command.addAll(jvmArgs);
+		command.add("-cp");
+		command.add("cds/app.jar" + File.pathSeparator + "cds/app/BOOT-INF/lib/*");
+		command.add(MAIN_CLASS);
+		command.add("--server.port=" + port);
+		command.add("--management.server.port=0");
+		command.add("--product.store.source=seed");
+		command.addAll(appArgs);
+
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/10"))
+				.timeout(Duration.ofSeconds(5)).GET().build();
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).directory(buildDir).redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+		try {
+			while (System.nanoTime() - start < TIMEOUT_NANOS) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException("Application exited with status " + process.exitValue());
+				}
+				try {
+					if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+						return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					}
+				} catch (ConnectException notListeningYet) {
+					// the server socket is not bound yet
+				}
+				Thread.sleep(10);
+			}
+			throw new IllegalStateException("No successful response within " + TIMEOUT_NANOS / 1_000_000_000 + "s");
+		} finally {
+			process.destroy();
+			if (!process.waitFor(30, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		}
+	}
+
+	private static int freePort() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.yaksha.assignment.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.validation.IdRules;
+import com.yaksha.assignment.validation.ProductIdValidator;
+
+// Shows and hot-reloads the product ID rules at /actuator/idvalidation; omitted fields keep their value
+@Component
+@Endpoint(id = "idvalidation")
+public class IdValidationEndpoint {
+
+	private final ProductIdValidator validator;
+
+	public IdValidationEndpoint(ProductIdValidator validator) {
+		this.validator = validator;
+	}
+
+	@ReadOperation
+	public IdRules rules() {
+		return validator.getRules();
+	}
+
+	@WriteOperation
+	public IdRules update(@Nullable String allowedChars, @Nullable Integer minLength, @Nullable Integer maxLength,
+			@Nullable Long numericMin, @Nullable Long numericMax, @Nullable String checksum) {
+		IdRules current = validator.getRules();
+		IdRules updated = new IdRules(allowedChars != null ? allowedChars : current.getAllowedChars(),
+				minLength != null ? minLength : current.getMinLength(),
+				maxLength != null ? maxLength : current.getMaxLength(),
+				numericMin != null ? numericMin : current.getNumericMin(),
+				numericMax != null ? numericMax : current.getNumericMax(),
+				checksum != null ? IdRules.Checksum.valueOf(checksum.toUpperCase()) : current.getChecksum());
+		validator.setRules(updated);
+		return updated;
+	}
+}
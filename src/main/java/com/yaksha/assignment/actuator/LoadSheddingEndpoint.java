@@ -0,0 +1,70 @@
+package com.yaksha.assignment.actuator;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.ratelimit.AdaptiveConcurrencyLimiter;
+import com.yaksha.assignment.ratelimit.ClientRateLimiter;
+import com.yaksha.assignment.ratelimit.LoadShedder;
+
+// Shows and tunes rate limits and load shedding at runtime at /actuator/loadshedding; omitted fields keep their value
+@Component
+@Endpoint(id = "loadshedding")
+public class LoadSheddingEndpoint {
+
+	private final ClientRateLimiter rateLimiter;
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+	private final LoadShedder shedder;
+
+	public LoadSheddingEndpoint(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+			LoadShedder shedder) {
+		this.rateLimiter = rateLimiter;
+		this.concurrencyLimiter = concurrencyLimiter;
+		this.shedder = shedder;
+	}
+
+	@ReadOperation
+	public Map<String, Object> state() {
+		Map<String, Object> state = new LinkedHashMap<>();
+		state.put("rateLimit", rateLimiter.getSettings());
+		state.put("trackedClients", rateLimiter.trackedClients());
+		state.put("rejectedNewClients", rateLimiter.rejectedFullCount());
+		state.put("rateLimitRetryAfterSeconds", shedder.getRateLimitRetryAfterSeconds());
+		state.put("loadShedding", concurrencyLimiter.getSettings());
+		state.put("concurrencyLimit", concurrencyLimiter.getLimit());
+		state.put("inFlight", concurrencyLimiter.getInFlight());
+		state.put("sheddingRetryAfterSeconds", shedder.getSheddingRetryAfterSeconds());
+		return state;
+	}
+
+	@WriteOperation
+	public Map<String, Object> update(@Nullable Boolean rateLimitEnabled, @Nullable Double requestsPerSecond,
+			@Nullable Integer burst, @Nullable Long rateLimitRetryAfterSeconds, @Nullable Boolean sheddingEnabled,
+			@Nullable Integer minLimit, @Nullable Integer maxLimit, @Nullable Long targetLatencyMillis,
+			@Nullable Long sheddingRetryAfterSeconds) {
+		ClientRateLimiter.Settings rate = rateLimiter.getSettings();
+		rateLimiter.setSettings(new ClientRateLimiter.Settings(
+				rateLimitEnabled != null ? rateLimitEnabled : rate.isEnabled(),
+				requestsPerSecond != null ? requestsPerSecond : rate.getRequestsPerSecond(),
+				burst != null ? burst : rate.getBurst()));
+		AdaptiveConcurrencyLimiter.Settings shedding = concurrencyLimiter.getSettings();
+		concurrencyLimiter.setSettings(new AdaptiveConcurrencyLimiter.Settings(
+				sheddingEnabled != null ? sheddingEnabled : shedding.isEnabled(),
+				minLimit != null ? minLimit : shedding.getMinLimit(),
+				maxLimit != null ? maxLimit : shedding.getMaxLimit(),
+				Duration.ofMillis(targetLatencyMillis != null ? targetLatencyMillis : shedding.getTargetLatencyMillis())));
+		shedder.setRetryAfter(
+				Duration.ofSeconds(rateLimitRetryAfterSeconds != null ? rateLimitRetryAfterSeconds
+						: shedder.getRateLimitRetryAfterSeconds()),
+				Duration.ofSeconds(sheddingRetryAfterSeconds != null ? sheddingRetryAfterSeconds
+						: shedder.getSheddingRetryAfterSeconds()));
+		return state();
+	}
+}
@@ -0,0 +1,42 @@
+package com.yaksha.assignment.actuator;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.service.ProductCache;
+
+// Exposes cache statistics and runtime invalidation at /actuator/productcache
+@Component
+@Endpoint(id = "productcache")
+public class ProductCacheEndpoint {
+
+	private final ProductCache cache;
+
+	public ProductCacheEndpoint(ProductCache cache) {
+		this.cache = cache;
+	}
+
+	@ReadOperation
+	public Map<String, Long> stats() {
+		return Map.of("size", cache.size(), "negativeSize", cache.negativeSize(), "hits", cache.hitCount(),
+				"negativeHits", cache.negativeHitCount(), "misses", cache.missCount(), "evictions",
+				cache.evictionCount());
+	}
+
+	// DELETE /actuator/productcache/{id}
+	@DeleteOperation
+	public void invalidate(@Selector long id) {
+		cache.invalidate(id);
+	}
+
+	// DELETE /actuator/productcache
+	@DeleteOperation
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
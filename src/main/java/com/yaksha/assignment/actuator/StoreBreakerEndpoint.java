@@ -0,0 +1,61 @@
+package com.yaksha.assignment.actuator;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+
+// Shows and tunes the product store circuit breaker and bulkhead at /actuator/storebreaker; omitted fields keep their
+// value, and state (CLOSED, OPEN, HALF_OPEN) forces a transition
+@Component
+@Endpoint(id = "storebreaker")
+public class StoreBreakerEndpoint {
+
+	private final StoreCircuitBreaker breaker;
+
+	public StoreBreakerEndpoint(StoreCircuitBreaker breaker) {
+		this.breaker = breaker;
+	}
+
+	@ReadOperation
+	public Map<String, Object> state() {
+		Map<String, Object> state = new LinkedHashMap<>();
+		state.put("state", breaker.getState());
+		state.put("settings", breaker.getSettings());
+		state.put("windowCalls", breaker.getWindowCalls());
+		state.put("windowFailures", breaker.getWindowFailures());
+		state.put("bulkheadInUse", breaker.getBulkheadInUse());
+		state.put("rejectedOpen", breaker.getRejectedOpenCount());
+		state.put("rejectedBulkhead", breaker.getRejectedBulkheadCount());
+		state.put("transitions", breaker.getTransitions());
+		return state;
+	}
+
+	@WriteOperation
+	public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Integer failureRateThreshold,
+			@Nullable Long slowCallThresholdMillis, @Nullable Integer minimumCalls, @Nullable Integer windowSize,
+			@Nullable Long openDurationMillis, @Nullable Integer halfOpenCalls,
+			@Nullable Integer bulkheadMaxConcurrent, @Nullable String state) {
+		StoreCircuitBreaker.Settings current = breaker.getSettings();
+		breaker.setSettings(new StoreCircuitBreaker.Settings(enabled != null ? enabled : current.isEnabled(),
+				failureRateThreshold != null ? failureRateThreshold : current.getFailureRateThreshold(),
+				Duration.ofMillis(slowCallThresholdMillis != null ? slowCallThresholdMillis
+						: current.getSlowCallThresholdMillis()),
+				minimumCalls != null ? minimumCalls : current.getMinimumCalls(),
+				windowSize != null ? windowSize : current.getWindowSize(),
+				Duration.ofMillis(openDurationMillis != null ? openDurationMillis : current.getOpenDurationMillis()),
+				halfOpenCalls != null ? halfOpenCalls : current.getHalfOpenCalls(),
+				bulkheadMaxConcurrent != null ? bulkheadMaxConcurrent : current.getBulkheadMaxConcurrent()));
+		if (state != null) {
+			breaker.forceState(StoreCircuitBreaker.State.valueOf(state.toUpperCase()));
+		}
+		return state();
+	}
+}
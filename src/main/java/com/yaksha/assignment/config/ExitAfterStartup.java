@@ -0,0 +1,28 @@
+package com.yaksha.assignment.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shuts the application down as soon as it is ready when
+ * {@code app.exit-after-startup=true}. Used for the class-data-sharing
+ * training run in the {@code startup} Maven profile, which records the classes
+ * loaded during a full startup.
+ * <p>
+ * The property is read when the event arrives rather than through a bean
+ * condition: AOT processing evaluates conditions at build time, without the
+ * training run's arguments, and would leave the listener out.
+ */
+@Component
+public class ExitAfterStartup implements ApplicationListener<ApplicationReadyEvent> {
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (event.getApplicationContext().getEnvironment().getProperty("app.exit-after-startup", Boolean.class,
+				false)) {
+			System.exit(SpringApplication.exit(event.getApplicationContext()));
+		}
+	}
+}
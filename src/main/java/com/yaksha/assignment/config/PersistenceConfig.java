@@ -0,0 +1,41 @@
+package com.yaksha.assignment.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Pool sizing for the {@code persistence} profile. With
+ * {@code persistence.pool.max-size=0} the Hikari pool is sized from the core
+ * count as {@code 2 * cores + 1} and kept at that size, so connections are
+ * never opened on the request path; any other value is used as is.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("persistence")
+public class PersistenceConfig {
+
+	// Static so the post-processor is registered before the DataSource is created
+	@Bean
+	public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource) {
+					int maxSize = environment.getProperty("persistence.pool.max-size", Integer.class, 0);
+					int poolSize = maxSize > 0 ? maxSize : poolSizeForCores(Runtime.getRuntime().availableProcessors());
+					dataSource.setMaximumPoolSize(poolSize);
+					dataSource.setMinimumIdle(poolSize);
+				}
+				return bean;
+			}
+		};
+	}
+
+	static int poolSizeForCores(int cores) {
+		return 2 * cores + 1;
+	}
+}
@@ -0,0 +1,40 @@
+package com.yaksha.assignment.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in mode ({@code spring.threads.virtual.enabled=true}) that runs every
+ * Tomcat request, and with it ProductController and GlobalExceptionHandler,
+ * on its own virtual thread instead of the bounded platform-thread pool.
+ * <p>
+ * Needs a Java 21 runtime; build with {@code -Pjava21}. The executor is looked
+ * up reflectively so the default Java 17 build still compiles.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService virtualThreadRequestExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (NoSuchMethodException ex) {
+			throw new IllegalStateException("spring.threads.virtual.enabled requires Java 21 or later, running on "
+					+ Runtime.version(), ex);
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalStateException("Could not create the virtual thread executor", ex);
+		}
+	}
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+			ExecutorService virtualThreadRequestExecutor) {
+		return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+	}
+}
@@ -0,0 +1,26 @@
+package com.yaksha.assignment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.yaksha.assignment.ratelimit.LoadSheddingInterceptor;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+	private final LoadSheddingInterceptor loadSheddingInterceptor;
+
+	public WebConfig(LoadSheddingInterceptor loadSheddingInterceptor) {
+		this.loadSheddingInterceptor = loadSheddingInterceptor;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// imports are long-running and have their own concurrency bound, so they would skew the adaptive limit
+		registry.addInterceptor(loadSheddingInterceptor).addPathPatterns("/products/**")
+				.excludePathPatterns("/products/import");
+	}
+}
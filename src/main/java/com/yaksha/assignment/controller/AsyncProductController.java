@@ -0,0 +1,67 @@
+package com.yaksha.assignment.controller;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.service.AsyncProductLookup;
+import com.yaksha.assignment.service.ProductLookupResult.Found;
+import com.yaksha.assignment.service.ProductService;
+
+/**
+ * Asynchronous variant of {@code GET /products/{id}}: the request thread is
+ * released while AsyncProductLookup runs the lookup, and the response is
+ * written when it completes. Failed lookups are passed to
+ * GlobalExceptionHandler as the same exceptions the synchronous endpoint
+ * throws, so statuses and bodies match; a missed deadline is answered 504.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AsyncProductController {
+
+	private final AsyncProductLookup lookups;
+	private final ProductService products;
+	private final ProductMetrics metrics;
+	private final CacheControl productCacheControl;
+
+	public AsyncProductController(AsyncProductLookup lookups, ProductService products, ProductMetrics metrics,
+			@Value("${product.http.max-age:60s}") Duration maxAge) {
+		this.lookups = lookups;
+		this.products = products;
+		this.metrics = metrics;
+		this.productCacheControl = CacheControl.maxAge(maxAge).cachePublic();
+	}
+
+	@GetMapping("/products/{id}/async")
+	public DeferredResult<ResponseEntity<String>> getProduct(@PathVariable String id) {
+		DeferredResult<ResponseEntity<String>> deferred = new DeferredResult<>();
+		long start = System.nanoTime();
+		lookups.lookup(id).whenComplete((result, failure) -> {
+			if (failure != null) {
+				deferred.setErrorResult(AsyncProductLookup.unwrap(failure));
+				return;
+			}
+			metrics.recordLookup(result, System.nanoTime() - start);
+			if (result instanceof Found found) {
+				deferred.setResult(toFoundResponse(found));
+			} else {
+				deferred.setErrorResult(products.toException(result));
+			}
+		});
+		return deferred;
+	}
+
+	// Same validators as the synchronous endpoint; Spring answers a matching conditional GET with 304
+	private ResponseEntity<String> toFoundResponse(Found found) {
+		return ResponseEntity.ok().eTag(found.etag()).lastModified(found.product().getLastModified())
+				.cacheControl(productCacheControl).body(found.body());
+	}
+}
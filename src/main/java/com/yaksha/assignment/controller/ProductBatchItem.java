@@ -0,0 +1,19 @@
+package com.yaksha.assignment.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.yaksha.assignment.service.ProductLookupResult;
+
+// Per-item result of a batch lookup: the HTTP status the single-item endpoint would return, and its body
+public record ProductBatchItem(String id, int status, String body) {
+
+	// Pairs each requested ID with its lookup result, in request order
+	public static List<ProductBatchItem> of(List<String> ids, ProductLookupResult[] results) {
+		List<ProductBatchItem> items = new ArrayList<>(results.length);
+		for (int i = 0; i < results.length; i++) {
+			items.add(new ProductBatchItem(ids.get(i), results[i].status().value(), results[i].body()));
+		}
+		return items;
+	}
+}
@@ -1,25 +1,116 @@
 package com.yaksha.assignment.controller;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.ErrorResponseCache;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.service.ProductLookupResult;
+import com.yaksha.assignment.service.ProductLookupResult.Found;
+import com.yaksha.assignment.service.ProductLookupResult.Invalid;
+import com.yaksha.assignment.service.ProductLookupResult.NotFound;
+import com.yaksha.assignment.service.ProductService;
 
-import com.yaksha.assignment.exception.GenericException;
-import com.yaksha.assignment.exception.ResourceNotFoundException;
-import com.yaksha.assignment.exception.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ProductController {
 
+	private final ProductService products;
+	private final ErrorResponseCache errorResponses;
+	private final ProblemJsonWriter problems;
+	private final ExceptionFactory exceptions;
+	private final ProductMetrics metrics;
+	private final int maxBatchSize;
+	private final CacheControl productCacheControl;
+	// product.lookup.mode=outcomes maps lookup results directly instead of throwing
+	private final boolean outcomes;
+
+	public ProductController(ProductService products, ErrorResponseCache errorResponses, ProblemJsonWriter problems,
+			ExceptionFactory exceptions, ProductMetrics metrics, @Value("${product.lookup.mode:exceptions}") String lookupMode,
+			@Value("${product.batch.max-size:100}") int maxBatchSize,
+			@Value("${product.http.max-age:60s}") Duration maxAge) {
+		this.products = products;
+		this.errorResponses = errorResponses;
+		this.problems = problems;
+		this.exceptions = exceptions;
+		this.metrics = metrics;
+		this.maxBatchSize = maxBatchSize;
+		this.productCacheControl = CacheControl.maxAge(maxAge).cachePublic();
+		this.outcomes = "outcomes".equalsIgnoreCase(lookupMode);
+	}
+
 	@GetMapping("/products/{id}")
-	public String getProduct(@PathVariable String id) {
-		if (id.equals("notfound")) {
-			throw new ResourceNotFoundException("Product with ID " + id + " not found.");
-		} else if (id.equals("generic")) {
-			throw new GenericException("A generic error occurred.");
-		} else if (id.equals("invalid")) {
-			throw new ValidationException("Invalid product ID: " + id);
+	public ResponseEntity<?> getProduct(@PathVariable String id, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		long start = System.nanoTime();
+		ProductLookupResult result = products.lookup(id);
+		metrics.recordLookup(result, System.nanoTime() - start);
+		if (result instanceof Found found) {
+			return toFoundResponse(found, request, response);
+		} else if (outcomes) {
+			return toErrorResponse(result, request, response);
+		}
+		throw products.toException(result);
+	}
+
+	// Resolves many IDs in one round trip; each item carries its own status instead of failing the batch
+	@PostMapping("/products/batch")
+	public List<ProductBatchItem> getProducts(@RequestBody List<String> ids) {
+		if (ids.size() > maxBatchSize) {
+			throw exceptions.validation("Batch size " + ids.size() + " exceeds the limit of " + maxBatchSize + ".");
+		}
+		long start = System.nanoTime();
+		ProductLookupResult[] results = products.lookupAll(ids);
+		metrics.recordBatch(results, System.nanoTime() - start);
+		return ProductBatchItem.of(ids, results);
+	}
+
+	/**
+	 * Conditional GET: the validators come from the product's version stamp, so
+	 * a matching If-None-Match or If-Modified-Since is answered with 304 before
+	 * the body is built. checkNotModified also sets ETag and Last-Modified on
+	 * the response; the 304 carries the same Cache-Control as the 200, so
+	 * caches refresh the stored response's lifetime.
+	 */
+	private ResponseEntity<?> toFoundResponse(Found found, HttpServletRequest request, HttpServletResponse response) {
+		if (new ServletWebRequest(request, response).checkNotModified(found.etag(),
+				found.product().getLastModified())) {
+			response.setHeader(HttpHeaders.CACHE_CONTROL, productCacheControl.getHeaderValue());
+			return null;
+		}
+		return ResponseEntity.ok().cacheControl(productCacheControl).body(found.body());
+	}
+
+	// Same status codes and bodies as GlobalExceptionHandler, without throwing
+	private ResponseEntity<?> toErrorResponse(ProductLookupResult result, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		ErrorCode errorCode = result instanceof NotFound ? ErrorCode.RESOURCE_NOT_FOUND
+				: result instanceof Invalid ? ErrorCode.VALIDATION_FAILED : ErrorCode.GENERIC_ERROR;
+		metrics.handled(errorCode);
+		if (problems.accepts(request)) {
+			errorResponses.applyCacheHeaders(errorCode.status(), response);
+			problems.write(request, response, errorCode, result.body());
+			return null;
 		}
-		return "Product with ID " + id;
+		return errorResponses.get(errorCode.exceptionType(), result.body(), errorCode.status());
 	}
 }
@@ -0,0 +1,96 @@
+package com.yaksha.assignment.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.repository.ProductExportRepository;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streams the whole catalog as NDJSON (default) or CSV from a database
+ * cursor. Kept off {@code /products/**} so the long-running response is not
+ * counted by the ID filter or the adaptive concurrency limit. The response is
+ * written on an async task bounded by {@code product.export.timeout}.
+ * <p>
+ * An unknown format is rejected with a 400 before streaming starts. Once the
+ * 200 status is committed, failures can only be reported in-band, as the
+ * final record (see ProductExportWriter); a client that sees no error record
+ * received the full catalog.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductExportController {
+
+	static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+	static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+	private final ProductExportRepository exports;
+	private final ExceptionFactory exceptions;
+	private final ProductMetrics metrics;
+	private final long timeoutMillis;
+
+	public ProductExportController(ProductExportRepository exports, ExceptionFactory exceptions,
+			ProductMetrics metrics, @Value("${product.export.timeout:10m}") Duration timeout) {
+		this.exports = exports;
+		this.exceptions = exceptions;
+		this.metrics = metrics;
+		this.timeoutMillis = timeout.toMillis();
+	}
+
+	// GET /catalog/export?format=ndjson|csv
+	@GetMapping("/catalog/export")
+	public WebAsyncTask<Void> export(@RequestParam(defaultValue = "ndjson") String format,
+			HttpServletResponse response) {
+		boolean csv = "csv".equalsIgnoreCase(format);
+		if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+			throw exceptions.validation("Unsupported export format: " + format);
+		}
+		response.setContentType((csv ? CSV : NDJSON).toString());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"products." + (csv ? "csv" : "ndjson") + '"');
+		// the export's own timeout, so other async requests keep the default
+		return new WebAsyncTask<>(timeoutMillis, () -> {
+			try (ProductExportWriter writer = csv ? ProductExportWriter.csv(response.getOutputStream())
+					: ProductExportWriter.ndjson(response.getOutputStream())) {
+				stream(writer);
+			}
+			return null;
+		});
+	}
+
+	private void stream(ProductExportWriter writer) throws IOException {
+		try {
+			exports.forEach(product -> {
+				try {
+					writer.write(product);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		} catch (UncheckedIOException ex) {
+			// the client went away; there is no one left to report to
+			throw ex.getCause();
+		} catch (RuntimeException ex) {
+			ErrorCode errorCode = ErrorCode.forException(ex.getClass());
+			metrics.handled(errorCode);
+			// store and driver failures are reported with the generic message, not their internals
+			writer.error(errorCode,
+					errorCode == ErrorCode.GENERIC_ERROR ? GenericException.DEFAULT_MESSAGE : ex.getMessage());
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.yaksha.assignment.controller;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.ErrorCode;
+
+/**
+ * Row-at-a-time encoder for the catalog export. Rows go straight to the
+ * response stream through a small buffer; nothing is collected in memory.
+ * <p>
+ * An error raised part-way through is written in-band as the last record,
+ * with the same numeric code, status and title as the problem details
+ * returned by GlobalExceptionHandler: an {@code {"error":{...}}} line in
+ * NDJSON, a {@code #error,code,status,title,detail} line in CSV.
+ */
+abstract class ProductExportWriter implements Closeable {
+
+	// The container owns the output stream; closing the generator only flushes it
+	private static final JsonFactory JSON = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	abstract void write(Product product) throws IOException;
+
+	abstract void error(ErrorCode errorCode, String detail) throws IOException;
+
+	static ProductExportWriter ndjson(OutputStream out) throws IOException {
+		return new Ndjson(out);
+	}
+
+	static ProductExportWriter csv(OutputStream out) throws IOException {
+		Csv csv = new Csv(out);
+		csv.header();
+		return csv;
+	}
+
+	private static final class Ndjson extends ProductExportWriter {
+
+		private final JsonGenerator json;
+		private boolean empty = true;
+
+		Ndjson(OutputStream out) throws IOException {
+			this.json = JSON.createGenerator(out, JsonEncoding.UTF8);
+			json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+		}
+
+		@Override
+		void write(Product product) throws IOException {
+			empty = false;
+			json.writeStartObject();
+			json.writeNumberField("id", product.getId());
+			json.writeStringField("name", product.getName());
+			json.writeNumberField("priceCents", product.getPriceCents());
+			json.writeNumberField("version", product.getVersion());
+			json.writeNumberField("lastModified", product.getLastModified());
+			json.writeEndObject();
+		}
+
+		@Override
+		void error(ErrorCode errorCode, String detail) throws IOException {
+			empty = false;
+			json.writeStartObject();
+			json.writeObjectFieldStart("error");
+			json.writeNumberField("code", errorCode.code());
+			json.writeNumberField("status", errorCode.status().value());
+			json.writeStringField("title", errorCode.title());
+			json.writeStringField("detail", detail);
+			json.writeEndObject();
+			json.writeEndObject();
+		}
+
+		@Override
+		public void close() throws IOException {
+			// the separator only goes between records, so terminate the last line here
+			if (!empty) {
+				json.writeRaw('\n');
+			}
+			json.close();
+		}
+	}
+
+	private static final class Csv extends ProductExportWriter {
+
+		private final Writer out;
+
+		Csv(OutputStream out) {
+			this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		}
+
+		void header() throws IOException {
+			out.write("id,name,priceCents,version,lastModified\n");
+		}
+
+		@Override
+		void write(Product product) throws IOException {
+			out.write(Long.toString(product.getId()));
+			out.write(',');
+			field(product.getName());
+			out.write(',');
+			out.write(Long.toString(product.getPriceCents()));
+			out.write(',');
+			out.write(Long.toString(product.getVersion()));
+			out.write(',');
+			out.write(Long.toString(product.getLastModified()));
+			out.write('\n');
+		}
+
+		@Override
+		void error(ErrorCode errorCode, String detail) throws IOException {
+			out.write("#error,");
+			out.write(Integer.toString(errorCode.code()));
+			out.write(',');
+			out.write(Integer.toString(errorCode.status().value()));
+			out.write(',');
+			field(errorCode.title());
+			out.write(',');
+			field(detail);
+			out.write('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.flush();
+		}
+
+		// RFC 4180: quote fields containing separators, quotes or line breaks
+		private void field(String value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+					&& value.indexOf('\r') < 0) {
+				out.write(value);
+				return;
+			}
+			out.write('"');
+			out.write(value.replace("\"", "\"\""));
+			out.write('"');
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.yaksha.assignment.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yaksha.assignment.service.ImportSummary;
+import com.yaksha.assignment.service.ProductImportPipeline;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductImportController {
+
+	private final ProductImportPipeline pipeline;
+
+	public ProductImportController(ProductImportPipeline pipeline) {
+		this.pipeline = pipeline;
+	}
+
+	// Body: one product per line, e.g. {"id":"42","name":"Lamp","priceCents":1999}; read as it arrives
+	@PostMapping("/products/import")
+	public ImportSummary importProducts(InputStream body) throws IOException {
+		return pipeline.ingest(body);
+	}
+}
@@ -0,0 +1,75 @@
+package com.yaksha.assignment.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "product")
+public class Product {
+
+	// Catalog IDs are assigned by the catalog, not generated
+	@Id
+	private long id;
+
+	private String name;
+
+	private long priceCents;
+
+	// Incremented on every change; drives HTTP validators
+	private long version;
+
+	// Epoch millis of the last change
+	private long lastModified;
+
+	public Product() {
+	}
+
+	public Product(long id, String name, long priceCents, long version, long lastModified) {
+		this.id = id;
+		this.name = name;
+		this.priceCents = priceCents;
+		this.version = version;
+		this.lastModified = lastModified;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public long getPriceCents() {
+		return priceCents;
+	}
+
+	public void setPriceCents(long priceCents) {
+		this.priceCents = priceCents;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	public void setLastModified(long lastModified) {
+		this.lastModified = lastModified;
+	}
+}
@@ -0,0 +1,9 @@
+package com.yaksha.assignment.exception;
+
+// Thrown when a lookup misses its per-request deadline. Stackless: ExceptionFactory.DEADLINE_EXCEEDED is rethrown.
+public class DeadlineExceededException extends RuntimeException {
+
+	public DeadlineExceededException(String message) {
+		super(message, null, false, false);
+	}
+}
@@ -0,0 +1,59 @@
+package com.yaksha.assignment.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Registry of stable numeric error codes returned to clients in problem
+ * details bodies. Codes are part of the API contract: never renumber an entry,
+ * only add new ones.
+ */
+public enum ErrorCode {
+
+	GENERIC_ERROR(1000, HttpStatus.INTERNAL_SERVER_ERROR, "Internal error", GenericException.class),
+	RESOURCE_NOT_FOUND(1001, HttpStatus.NOT_FOUND, "Resource not found", ResourceNotFoundException.class),
+	VALIDATION_FAILED(1002, HttpStatus.BAD_REQUEST, "Validation failed", ValidationException.class),
+	TOO_MANY_REQUESTS(1003, HttpStatus.TOO_MANY_REQUESTS, "Too many requests", TooManyRequestsException.class),
+	SERVICE_OVERLOADED(1004, HttpStatus.SERVICE_UNAVAILABLE, "Service overloaded", ServiceOverloadedException.class),
+	DEADLINE_EXCEEDED(1005, HttpStatus.GATEWAY_TIMEOUT, "Deadline exceeded", DeadlineExceededException.class),
+	STORE_UNAVAILABLE(1006, HttpStatus.SERVICE_UNAVAILABLE, "Store unavailable", StoreUnavailableException.class);
+
+	private final int code;
+	private final HttpStatus status;
+	private final String title;
+	private final Class<? extends RuntimeException> exceptionType;
+
+	ErrorCode(int code, HttpStatus status, String title, Class<? extends RuntimeException> exceptionType) {
+		this.code = code;
+		this.status = status;
+		this.title = title;
+		this.exceptionType = exceptionType;
+	}
+
+	public int code() {
+		return code;
+	}
+
+	public HttpStatus status() {
+		return status;
+	}
+
+	public String title() {
+		return title;
+	}
+
+	public Class<? extends RuntimeException> exceptionType() {
+		return exceptionType;
+	}
+
+	// Most specific registered code for the exception type, falling back to GENERIC_ERROR
+	public static ErrorCode forException(Class<? extends Throwable> type) {
+		ErrorCode match = null;
+		for (ErrorCode candidate : values()) {
+			if (candidate.exceptionType.isAssignableFrom(type)
+					&& (match == null || match.exceptionType.isAssignableFrom(candidate.exceptionType))) {
+				match = candidate;
+			}
+		}
+		return match != null ? match : GENERIC_ERROR;
+	}
+}
@@ -0,0 +1,321 @@
+package com.yaksha.assignment.exception;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Logs the exceptions GlobalExceptionHandler answers, off the request thread
+ * and without repeating itself.
+ * <p>
+ * Request threads only put an event in a bounded lock-free ring buffer; when
+ * it is full the event is dropped and counted, never waited for. One writer
+ * thread drains the buffer and groups events by fingerprint: exception type,
+ * error code and throw site (the top stack frame; for a lightweight exception
+ * the site ExceptionFactory recorded, or none for a 4xx it did not record one
+ * for; for a preallocated one its fixed message). The first event of a fingerprint is logged at once with its stack
+ * trace; later ones are only counted and logged as one summary line per
+ * {@code product.errors.log.repeat-interval}. Summaries carry a stack trace
+ * for a {@code product.errors.log.stack-trace-sample-rate} fraction of them.
+ * <p>
+ * 5xx errors are logged at WARN (GENERIC_ERROR at ERROR) and 4xx at DEBUG;
+ * events for a disabled level are not queued at all. Queue depth and event
+ * counts are published as {@code product.errors.log.*}.
+ */
+@Component
+public class ErrorReporter implements MeterBinder {
+
+	private static final Logger log = LoggerFactory.getLogger(ErrorReporter.class);
+
+	private final boolean enabled;
+	private final Ring ring;
+	private final long repeatIntervalNanos;
+	private final double stackTraceSampleRate;
+	private final int maxFingerprints;
+	private final Thread writer;
+	private volatile boolean running = true;
+
+	private final LongAdder queued = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder suppressed = new LongAdder();
+	private final LongAdder records = new LongAdder();
+
+	// Writer thread only
+	private final LinkedHashMap<String, Aggregate> aggregates = new LinkedHashMap<>(64, 0.75f, true);
+	private long droppedReported;
+	private long lastSweep;
+
+	public ErrorReporter(@Value("${product.errors.log.enabled:true}") boolean enabled,
+			@Value("${product.errors.log.buffer-size:1024}") int bufferSize,
+			@Value("${product.errors.log.repeat-interval:60s}") Duration repeatInterval,
+			@Value("${product.errors.log.stack-trace-sample-rate:0.01}") double stackTraceSampleRate,
+			@Value("${product.errors.log.max-fingerprints:1024}") int maxFingerprints) {
+		this.enabled = enabled;
+		this.ring = new Ring(bufferSize);
+		this.repeatIntervalNanos = repeatInterval.toNanos();
+		this.stackTraceSampleRate = stackTraceSampleRate;
+		this.maxFingerprints = Math.max(1, maxFingerprints);
+		this.writer = new Thread(this::drainLoop, "error-reporter");
+		this.writer.setDaemon(true);
+		if (enabled) {
+			this.writer.start();
+		}
+	}
+
+	// Called on request threads: never blocks, never logs
+	public void report(RuntimeException ex, ErrorCode errorCode) {
+		if (!willReport(errorCode)) {
+			return;
+		}
+		if (ring.offer(new Event(ex, errorCode, System.nanoTime()))) {
+			queued.increment();
+		} else {
+			dropped.increment();
+		}
+	}
+
+	// Whether report() would queue an event with this code, so callers can skip work only the log would use
+	public boolean willReport(ErrorCode errorCode) {
+		return enabled && isLevelEnabled(errorCode);
+	}
+
+	// Stops the writer after it has drained the buffer and logged pending summaries
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(writer);
+		writer.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	public int queueDepth() {
+		return ring.size();
+	}
+
+	public long droppedCount() {
+		return dropped.sum();
+	}
+
+	public long suppressedCount() {
+		return suppressed.sum();
+	}
+
+	public long recordCount() {
+		return records.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("product.errors.log.queue", this, ErrorReporter::queueDepth)
+				.description("Error events waiting for the log writer").register(registry);
+		FunctionCounter.builder("product.errors.log.events", queued, LongAdder::sum).tag("result", "queued")
+				.description("Handled exceptions reported for logging").register(registry);
+		FunctionCounter.builder("product.errors.log.events", dropped, LongAdder::sum).tag("result", "dropped")
+				.description("Handled exceptions reported for logging").register(registry);
+		FunctionCounter.builder("product.errors.log.suppressed", suppressed, LongAdder::sum)
+				.description("Repeated errors counted instead of logged").register(registry);
+		FunctionCounter.builder("product.errors.log.records", records, LongAdder::sum)
+				.description("Log records written for handled exceptions").register(registry);
+	}
+
+	private void drainLoop() {
+		while (running) {
+			if (!drain()) {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+			}
+			sweep(System.nanoTime(), false);
+		}
+		drain();
+		sweep(System.nanoTime(), true);
+	}
+
+	// Returns whether any event was taken
+	private boolean drain() {
+		boolean any = false;
+		for (Event event; (event = ring.poll()) != null;) {
+			any = true;
+			handle(event);
+		}
+		return any;
+	}
+
+	private void handle(Event event) {
+		String fingerprint = fingerprint(event.exception(), event.errorCode());
+		Aggregate aggregate = aggregates.get(fingerprint);
+		if (aggregate == null) {
+			if (aggregates.size() >= maxFingerprints) {
+				evictEldest();
+			}
+			aggregates.put(fingerprint, new Aggregate(event, event.at()));
+			write(event, 0, true);
+			return;
+		}
+		aggregate.latest = event;
+		aggregate.repeats++;
+		suppressed.increment();
+	}
+
+	// Logs a summary for each fingerprint whose interval has passed with repeats, and the drop count
+	private void sweep(long now, boolean all) {
+		if (!all && now - lastSweep < TimeUnit.SECONDS.toNanos(1)) {
+			return;
+		}
+		lastSweep = now;
+		for (Aggregate aggregate : aggregates.values()) {
+			if (aggregate.repeats > 0 && (all || now - aggregate.loggedAt >= repeatIntervalNanos)) {
+				summarize(aggregate, now);
+			}
+		}
+		long droppedNow = dropped.sum();
+		if (droppedNow > droppedReported) {
+			log.warn("Error log buffer full: dropped {} handled-exception events", droppedNow - droppedReported);
+			droppedReported = droppedNow;
+		}
+	}
+
+	private void evictEldest() {
+		Iterator<Aggregate> eldest = aggregates.values().iterator();
+		Aggregate aggregate = eldest.next();
+		if (aggregate.repeats > 0) {
+			summarize(aggregate, System.nanoTime());
+		}
+		eldest.remove();
+	}
+
+	private void summarize(Aggregate aggregate, long now) {
+		boolean withStackTrace = stackTraceSampleRate > 0
+				&& ThreadLocalRandom.current().nextDouble() < stackTraceSampleRate;
+		write(aggregate.latest, aggregate.repeats, withStackTrace);
+		aggregate.repeats = 0;
+		aggregate.loggedAt = now;
+	}
+
+	private void write(Event event, long repeats, boolean withStackTrace) {
+		records.increment();
+		RuntimeException ex = event.exception();
+		ErrorCode errorCode = event.errorCode();
+		String message = repeats == 0 ? "Handled {} {} ({}): {}"
+				: "Handled {} {} ({}): {} [repeated " + repeats + " times since last logged]";
+		Object[] args = withStackTrace
+				? new Object[] { errorCode.code(), ex.getClass().getSimpleName(), errorCode.status().value(),
+						ex.getMessage(), ex }
+				: new Object[] { errorCode.code(), ex.getClass().getSimpleName(), errorCode.status().value(),
+						ex.getMessage() };
+		if (errorCode == ErrorCode.GENERIC_ERROR) {
+			log.error(message, args);
+		} else if (errorCode.status().is5xxServerError()) {
+			log.warn(message, args);
+		} else {
+			log.debug(message, args);
+		}
+	}
+
+	private static boolean isLevelEnabled(ErrorCode errorCode) {
+		if (errorCode == ErrorCode.GENERIC_ERROR) {
+			return log.isErrorEnabled();
+		}
+		return errorCode.status().is5xxServerError() ? log.isWarnEnabled() : log.isDebugEnabled();
+	}
+
+	// Type, code and throw site. Stackless exceptions carry the site ExceptionFactory recorded, or are preallocated
+	// with a fixed message, which then stands in for the site; a 4xx without a site (DEBUG was off when it was
+	// created) is told apart by type and code only, as its message embeds the request's ID
+	private static String fingerprint(RuntimeException ex, ErrorCode errorCode) {
+		StackTraceElement[] stackTrace = ex.getStackTrace();
+		String site;
+		if (stackTrace.length > 0) {
+			site = stackTrace[0].getClassName() + '#' + stackTrace[0].getMethodName() + ':'
+					+ stackTrace[0].getLineNumber();
+		} else if (ex instanceof ThrowSite recorded && recorded.getThrowSite() != null) {
+			site = recorded.getThrowSite();
+		} else if (errorCode.status().is4xxClientError()) {
+			site = "";
+		} else {
+			site = String.valueOf(ex.getMessage());
+		}
+		return ex.getClass().getName() + '|' + errorCode.code() + '|' + site;
+	}
+
+	private record Event(RuntimeException exception, ErrorCode errorCode, long at) {
+	}
+
+	private static final class Aggregate {
+
+		private Event latest;
+		private long repeats;
+		private long loggedAt;
+
+		Aggregate(Event latest, long loggedAt) {
+			this.latest = latest;
+			this.loggedAt = loggedAt;
+		}
+	}
+
+	/**
+	 * Bounded multi-producer, single-consumer ring. Producers claim a slot by
+	 * CAS on the tail and publish into it; the writer clears a slot before
+	 * advancing the head, so a claimed slot is always free. A full ring
+	 * rejects the offer instead of waiting.
+	 */
+	private static final class Ring {
+
+		private final AtomicReferenceArray<Event> slots;
+		private final int mask;
+		private final AtomicLong tail = new AtomicLong();
+		// Written by the consumer only
+		private volatile long head;
+
+		Ring(int capacity) {
+			// next power of two, so slots are picked by masking
+			int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+			this.slots = new AtomicReferenceArray<>(size);
+			this.mask = size - 1;
+		}
+
+		boolean offer(Event event) {
+			long claimed;
+			do {
+				claimed = tail.get();
+				if (claimed - head >= slots.length()) {
+					return false;
+				}
+			} while (!tail.compareAndSet(claimed, claimed + 1));
+			slots.lazySet((int) (claimed & mask), event);
+			return true;
+		}
+
+		// Null when empty, or when the next slot is claimed but not yet published
+		Event poll() {
+			long position = head;
+			int index = (int) (position & mask);
+			Event event = slots.get(index);
+			if (event == null) {
+				return null;
+			}
+			slots.lazySet(index, null);
+			head = position + 1;
+			return event;
+		}
+
+		int size() {
+			return (int) Math.max(0, tail.get() - head);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.yaksha.assignment.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Bounded LRU cache of pre-encoded error responses, keyed by exception type,
+ * status and message template.
+ * <p>
+ * Each entry holds the UTF-8 encoded body together with a preset
+ * {@code Content-Type}, so a repeated error is written by the byte array
+ * converter without re-encoding the message or negotiating a content type.
+ * Messages that embed the requested ID (see MessageTemplate) are cached once
+ * per template: the entry holds the encoded text around the ID, and only the
+ * ID is encoded per response. Attacker-chosen IDs therefore neither grow the
+ * cache nor evict useful entries; the bound covers other messages.
+ */
+@Component
+public class ErrorResponseCache {
+
+	static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+	private final int maxEntries;
+	private final Map<Key, Entry> entries;
+	// Short shared-cache lifetime for 404s so CDNs absorb repeated misses
+	private final String notFoundCacheControl;
+
+	public ErrorResponseCache(@Value("${exceptions.response-cache.max-entries:1024}") int maxEntries,
+			@Value("${product.http.not-found-max-age:10s}") Duration notFoundMaxAge) {
+		this.maxEntries = maxEntries;
+		this.notFoundCacheControl = CacheControl.maxAge(notFoundMaxAge).cachePublic().getHeaderValue();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > ErrorResponseCache.this.maxEntries;
+			}
+		};
+	}
+
+	public ResponseEntity<byte[]> get(RuntimeException ex, HttpStatus status) {
+		return get(ex.getClass(), ex.getMessage(), status);
+	}
+
+	// Lookup by exception type without an instance, for callers that never throw
+	public ResponseEntity<byte[]> get(Class<? extends RuntimeException> type, String message, HttpStatus status) {
+		MessageTemplate template = MessageTemplate.of(message);
+		Key key = new Key(type, template != null ? template : message, status);
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry == null) {
+			// Build outside the lock; a concurrent duplicate build is harmless
+			entry = template != null ? Entry.of(template, status, cacheControlFor(status))
+					: Entry.of(message, status, cacheControlFor(status));
+			if (maxEntries > 0) {
+				synchronized (entries) {
+					entries.putIfAbsent(key, entry);
+				}
+			}
+		}
+		return template != null ? entry.splice(template.argument(message), status) : entry.fixed();
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	// For error bodies written outside the cache (problem details, filters)
+	public void applyCacheHeaders(HttpStatus status, HttpServletResponse response) {
+		String cacheControl = cacheControlFor(status);
+		if (cacheControl != null) {
+			response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+		}
+	}
+
+	// Cache-Control value for error responses with this status, or null
+	public String cacheControlFor(HttpStatus status) {
+		return status == HttpStatus.NOT_FOUND ? notFoundCacheControl : null;
+	}
+
+	// message is either the full text or the MessageTemplate it matches
+	private record Key(Class<?> type, Object message, HttpStatus status) {
+	}
+
+	// A fixed response, or the encoded text around a template's argument with the shared headers
+	private record Entry(ResponseEntity<byte[]> fixed, byte[] head, byte[] tail, HttpHeaders headers) {
+
+		static Entry of(String message, HttpStatus status, String cacheControl) {
+			byte[] body = message == null ? new byte[0] : message.getBytes(StandardCharsets.UTF_8);
+			HttpHeaders headers = headers(cacheControl);
+			headers.setContentLength(body.length);
+			return new Entry(new ResponseEntity<>(body, headers, status), null, null, null);
+		}
+
+		static Entry of(MessageTemplate template, HttpStatus status, String cacheControl) {
+			// Content-Length varies with the argument and is set by the converter
+			return new Entry(null, template.prefix().getBytes(StandardCharsets.UTF_8),
+					template.suffix().getBytes(StandardCharsets.UTF_8), headers(cacheControl));
+		}
+
+		ResponseEntity<byte[]> splice(String argument, HttpStatus status) {
+			byte[] middle = argument.getBytes(StandardCharsets.UTF_8);
+			byte[] body = new byte[head.length + middle.length + tail.length];
+			System.arraycopy(head, 0, body, 0, head.length);
+			System.arraycopy(middle, 0, body, head.length, middle.length);
+			System.arraycopy(tail, 0, body, head.length + middle.length, tail.length);
+			return new ResponseEntity<>(body, headers, status);
+		}
+
+		private static HttpHeaders headers(String cacheControl) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(TEXT_PLAIN_UTF8);
+			if (cacheControl != null) {
+				headers.setCacheControl(cacheControl);
+			}
+			return headers;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.yaksha.assignment.exception;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the business exceptions thrown by the product API.
+ * <p>
+ * In lightweight mode ({@code exceptions.lightweight.enabled=true}) expected
+ * business errors are created without filling in a stack trace, and errors
+ * with a fixed message are thrown from a single preallocated instance. Setting
+ * {@code exceptions.generic.debug=true} keeps full stack traces for
+ * {@link GenericException}, which usually signals a real fault.
+ * <p>
+ * Lightweight instances come from the exceptions' two-argument constructors,
+ * which disable suppression and, when asked, stack trace capture. In place of
+ * the stack trace they record their throw site, the frame that called this
+ * factory, found by walking one or two frames (see ThrowSite). The walk is
+ * only done when ErrorReporter would queue the exception's event: 4xx events
+ * are dropped unless DEBUG is on, so a stackless 404 or 400 normally costs no
+ * walk and is fingerprinted by type and error code alone.
+ * <p>
+ * A missed lookup deadline always has the same message, so every component
+ * that gives up on a lookup throws the one preallocated
+ * {@link #DEADLINE_EXCEEDED}.
+ */
+@Component
+public class ExceptionFactory {
+
+	public static final DeadlineExceededException DEADLINE_EXCEEDED = new DeadlineExceededException(
+			"Product lookup deadline exceeded.");
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	private final boolean lightweight;
+	private final boolean genericDebug;
+	private final ErrorReporter reporter;
+
+	// Shared, immutable (stackless and suppression disabled) instance for the fixed generic message
+	private final GenericException cachedGeneric;
+
+	public ExceptionFactory(@Value("${exceptions.lightweight.enabled:false}") boolean lightweight,
+			@Value("${exceptions.generic.debug:false}") boolean genericDebug, ErrorReporter reporter) {
+		this.lightweight = lightweight;
+		this.genericDebug = genericDebug;
+		this.reporter = reporter;
+		this.cachedGeneric = new GenericException(GenericException.DEFAULT_MESSAGE, false);
+	}
+
+	public boolean isLightweight() {
+		return lightweight;
+	}
+
+	public ResourceNotFoundException notFound(String message) {
+		if (!lightweight) {
+			return new ResourceNotFoundException(message);
+		}
+		ResourceNotFoundException ex = new ResourceNotFoundException(message, false);
+		if (reporter.willReport(ErrorCode.RESOURCE_NOT_FOUND)) {
+			ex.setThrowSite(callerSite());
+		}
+		return ex;
+	}
+
+	public ValidationException validation(String message) {
+		if (!lightweight) {
+			return new ValidationException(message);
+		}
+		ValidationException ex = new ValidationException(message, false);
+		if (reporter.willReport(ErrorCode.VALIDATION_FAILED)) {
+			ex.setThrowSite(callerSite());
+		}
+		return ex;
+	}
+
+	public GenericException generic() {
+		if (!lightweight) {
+			return new GenericException(GenericException.DEFAULT_MESSAGE);
+		}
+		return genericDebug ? new GenericException(GenericException.DEFAULT_MESSAGE, true) : cachedGeneric;
+	}
+
+	public GenericException generic(String message) {
+		if (GenericException.DEFAULT_MESSAGE.equals(message)) {
+			return generic();
+		}
+		if (!lightweight || genericDebug) {
+			return new GenericException(message);
+		}
+		GenericException ex = new GenericException(message, false);
+		if (reporter.willReport(ErrorCode.GENERIC_ERROR)) {
+			ex.setThrowSite(callerSite());
+		}
+		return ex;
+	}
+
+	// The first frame outside this factory, as Class#method:line; frames are walked lazily, so only those are read
+	private static String callerSite() {
+		return STACK_WALKER.walk(frames -> frames
+				.dropWhile(frame -> frame.getClassName().equals(ExceptionFactory.class.getName())).findFirst()
+				.map(frame -> frame.getClassName() + '#' + frame.getMethodName() + ':' + frame.getLineNumber())
+				.orElse(null));
+	}
+}
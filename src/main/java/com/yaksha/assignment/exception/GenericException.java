@@ -1,8 +1,26 @@
 package com.yaksha.assignment.exception;
 
-public class GenericException extends RuntimeException {
+public class GenericException extends RuntimeException implements ThrowSite {
+
+    public static final String DEFAULT_MESSAGE = "A generic error occurred.";
+
+    private String throwSite;
 
     public GenericException(String message) {
         super(message);
     }
+
+    public GenericException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    @Override
+    public String getThrowSite() {
+        return throwSite;
+    }
+
+    // Set by ExceptionFactory on the stackless instances it creates
+    void setThrowSite(String throwSite) {
+        this.throwSite = throwSite;
+    }
 }
@@ -1,28 +1,99 @@
 package com.yaksha.assignment.exception;
 
-import org.springframework.http.HttpStatus;
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.yaksha.assignment.metrics.ProductMetrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+	private final ErrorResponseCache responses;
+	private final ProblemJsonWriter problems;
+	private final ProductMetrics metrics;
+	private final ErrorReporter reporter;
+
+	public GlobalExceptionHandler(ErrorResponseCache responses, ProblemJsonWriter problems, ProductMetrics metrics,
+			ErrorReporter reporter) {
+		this.responses = responses;
+		this.problems = problems;
+		this.metrics = metrics;
+		this.reporter = reporter;
+	}
+
 	// Handling ResourceNotFoundException
 	@ExceptionHandler(ResourceNotFoundException.class)
-	public ResponseEntity<String> handleResourceNotFound(ResourceNotFoundException ex) {
-		return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+	public ResponseEntity<byte[]> handleResourceNotFound(ResourceNotFoundException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.RESOURCE_NOT_FOUND, request, response);
 	}
 
 	// Handling ValidationException
 	@ExceptionHandler(ValidationException.class)
-	public ResponseEntity<String> handleValidationException(ValidationException ex) {
-		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+	public ResponseEntity<byte[]> handleValidationException(ValidationException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.VALIDATION_FAILED, request, response);
 	}
 
 	// Handling GenericException
 	@ExceptionHandler(GenericException.class)
-	public ResponseEntity<String> handleGenericException(GenericException ex) {
-		return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+	public ResponseEntity<byte[]> handleGenericException(GenericException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.GENERIC_ERROR, request, response);
+	}
+
+	// Handling StoreUnavailableException (more specific than GenericException, so it takes precedence)
+	@ExceptionHandler(StoreUnavailableException.class)
+	public ResponseEntity<byte[]> handleStoreUnavailable(StoreUnavailableException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.STORE_UNAVAILABLE, request, response);
+	}
+
+	// Handling TooManyRequestsException
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<byte[]> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.TOO_MANY_REQUESTS, request, response);
+	}
+
+	// Handling ServiceOverloadedException
+	@ExceptionHandler(ServiceOverloadedException.class)
+	public ResponseEntity<byte[]> handleServiceOverloaded(ServiceOverloadedException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.SERVICE_OVERLOADED, request, response);
+	}
+
+	// Handling DeadlineExceededException
+	@ExceptionHandler(DeadlineExceededException.class)
+	public ResponseEntity<byte[]> handleDeadlineExceeded(DeadlineExceededException ex, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		return respond(ex, ErrorCode.DEADLINE_EXCEEDED, request, response);
+	}
+
+	// Problem details are streamed straight into the response (null tells Spring it is already written);
+	// otherwise the cached plain-text response is returned. Logging is handed off to ErrorReporter.
+	// ReactiveErrorHandler builds the same responses for the WebFlux edition.
+	private ResponseEntity<byte[]> respond(RuntimeException ex, ErrorCode errorCode, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		metrics.handled(errorCode);
+		reporter.report(ex, errorCode);
+		if (ex instanceof Retryable retryable) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, retryable.getRetryAfter());
+		}
+		if (problems.accepts(request)) {
+			responses.applyCacheHeaders(errorCode.status(), response);
+			problems.write(request, response, errorCode, ex.getMessage());
+			return null;
+		}
+		return responses.get(ex, errorCode.status());
 	}
 }
@@ -0,0 +1,41 @@
+package com.yaksha.assignment.exception;
+
+/**
+ * Error message with one caller-supplied part, such as the requested ID:
+ * {@code prefix + argument + suffix}. ErrorResponseCache keys these messages
+ * by template rather than by full text, so distinct IDs share one entry.
+ */
+public record MessageTemplate(String prefix, String suffix) {
+
+	public static final MessageTemplate NOT_FOUND = new MessageTemplate("Product with ID ", " not found.");
+	public static final MessageTemplate INVALID_ID = new MessageTemplate("Invalid product ID: ", "");
+
+	// Templates recognized by ErrorResponseCache
+	static final MessageTemplate[] KNOWN = { NOT_FOUND, INVALID_ID };
+
+	public String format(String argument) {
+		return prefix + argument + suffix;
+	}
+
+	public boolean matches(String message) {
+		return message.length() >= prefix.length() + suffix.length() && message.startsWith(prefix)
+				&& message.endsWith(suffix);
+	}
+
+	// The caller-supplied part of a message this template matches
+	public String argument(String message) {
+		return message.substring(prefix.length(), message.length() - suffix.length());
+	}
+
+	// Known template matching the message, or null
+	static MessageTemplate of(String message) {
+		if (message != null) {
+			for (MessageTemplate template : KNOWN) {
+				if (template.matches(message)) {
+					return template;
+				}
+			}
+		}
+		return null;
+	}
+}
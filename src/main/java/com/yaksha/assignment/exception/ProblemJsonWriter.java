@@ -0,0 +1,111 @@
+package com.yaksha.assignment.exception;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes RFC 7807 problem details ({@code application/problem+json}) with a
+ * streaming generator directly into the servlet response buffer, without
+ * building an intermediate map, DTO or String.
+ * <p>
+ * Clients opt in through the {@code Accept} header, by preferring
+ * {@code application/problem+json} to {@code text/plain}; everything else
+ * keeps the plain-text message body.
+ */
+@Component
+public class ProblemJsonWriter {
+
+	public static final String PROBLEM_JSON = "application/problem+json";
+
+	private static final MediaType PROBLEM_JSON_TYPE = MediaType.parseMediaType(PROBLEM_JSON);
+
+	// The container owns the output stream; closing the generator only flushes it
+	private final JsonFactory jsonFactory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	public boolean accepts(HttpServletRequest request) {
+		return accepts(request.getHeader("Accept"));
+	}
+
+	/**
+	 * Whether the Accept header prefers problem details to the plain-text body.
+	 * Each of the two types gets the quality of the most specific range that
+	 * includes it ({@code q=0} excludes it); plain text, the default, wins
+	 * ties, so {@code *}{@code /*} keeps the plain body. Parsed media types are
+	 * cached by Spring, so repeated headers are not re-parsed.
+	 */
+	public boolean accepts(String accept) {
+		if (accept == null || accept.isEmpty()) {
+			return false;
+		}
+		List<MediaType> ranges;
+		try {
+			ranges = MediaType.parseMediaTypes(accept);
+		} catch (InvalidMediaTypeException ex) {
+			return false;
+		}
+		double problem = quality(ranges, PROBLEM_JSON_TYPE);
+		return problem > 0 && problem > quality(ranges, MediaType.TEXT_PLAIN);
+	}
+
+	public void write(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode, String detail)
+			throws IOException {
+		response.setStatus(errorCode.status().value());
+		response.setContentType(PROBLEM_JSON);
+		write(response.getOutputStream(), errorCode, detail, request.getRequestURI());
+	}
+
+	// Encoded problem details, for responses that are not written to a servlet output stream
+	public byte[] toBytes(ErrorCode errorCode, String detail, String instance) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+		try {
+			write(out, errorCode, detail, instance);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toByteArray();
+	}
+
+	private static double quality(List<MediaType> ranges, MediaType type) {
+		double quality = 0;
+		int best = -1;
+		for (MediaType range : ranges) {
+			if (range.includes(type)) {
+				// */* < application/* < application/*+json < application/problem+json
+				int specificity = range.isWildcardType() ? 0
+						: !range.isWildcardSubtype() ? 3 : range.getSubtypeSuffix() != null ? 2 : 1;
+				if (specificity > best) {
+					best = specificity;
+					quality = range.getQualityValue();
+				}
+			}
+		}
+		return quality;
+	}
+
+	private void write(OutputStream out, ErrorCode errorCode, String detail, String instance) throws IOException {
+		try (JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+			json.writeStartObject();
+			json.writeStringField("type", "about:blank");
+			json.writeStringField("title", errorCode.title());
+			json.writeNumberField("status", errorCode.status().value());
+			json.writeNumberField("code", errorCode.code());
+			json.writeStringField("detail", detail);
+			json.writeStringField("instance", instance);
+			json.writeEndObject();
+		}
+	}
+}
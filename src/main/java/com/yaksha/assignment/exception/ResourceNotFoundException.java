@@ -1,8 +1,24 @@
 package com.yaksha.assignment.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends RuntimeException implements ThrowSite {
+
+    private String throwSite;
 
     public ResourceNotFoundException(String message) {
         super(message);
     }
+
+    public ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    @Override
+    public String getThrowSite() {
+        return throwSite;
+    }
+
+    // Set by ExceptionFactory on the stackless instances it creates
+    void setThrowSite(String throwSite) {
+        this.throwSite = throwSite;
+    }
 }
@@ -0,0 +1,8 @@
+package com.yaksha.assignment.exception;
+
+// Rejection that tells the client when to try again; answered with a Retry-After header
+public interface Retryable {
+
+	// Value for the Retry-After header, in seconds
+	String getRetryAfter();
+}
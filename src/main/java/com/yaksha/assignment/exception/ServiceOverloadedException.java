@@ -0,0 +1,17 @@
+package com.yaksha.assignment.exception;
+
+// Thrown when requests are shed to protect latency. Stackless: instances are preallocated and rethrown.
+public class ServiceOverloadedException extends RuntimeException implements Retryable {
+
+	private final String retryAfter;
+
+	public ServiceOverloadedException(String message, long retryAfterSeconds) {
+		super(message, null, false, false);
+		this.retryAfter = Long.toString(retryAfterSeconds);
+	}
+
+	@Override
+	public String getRetryAfter() {
+		return retryAfter;
+	}
+}
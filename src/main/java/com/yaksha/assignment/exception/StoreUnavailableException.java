@@ -0,0 +1,21 @@
+package com.yaksha.assignment.exception;
+
+/**
+ * Thrown instead of calling the product store while its circuit breaker is
+ * open or its bulkhead is full. A GenericException, answered 503 with
+ * Retry-After. Stackless: instances are preallocated and rethrown.
+ */
+public class StoreUnavailableException extends GenericException implements Retryable {
+
+	private final String retryAfter;
+
+	public StoreUnavailableException(String message, long retryAfterSeconds) {
+		super(message, false);
+		this.retryAfter = Long.toString(retryAfterSeconds);
+	}
+
+	@Override
+	public String getRetryAfter() {
+		return retryAfter;
+	}
+}
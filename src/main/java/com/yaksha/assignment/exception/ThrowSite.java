@@ -0,0 +1,8 @@
+package com.yaksha.assignment.exception;
+
+// Stackless exception that knows the code that created it, so ErrorReporter can tell its origins apart
+public interface ThrowSite {
+
+	// Class#method:line recorded by ExceptionFactory, or null when ErrorReporter would not have logged it
+	String getThrowSite();
+}
@@ -0,0 +1,17 @@
+package com.yaksha.assignment.exception;
+
+// Thrown when a client exceeds its request rate. Stackless: instances are preallocated and rethrown.
+public class TooManyRequestsException extends RuntimeException implements Retryable {
+
+	private final String retryAfter;
+
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message, null, false, false);
+		this.retryAfter = Long.toString(retryAfterSeconds);
+	}
+
+	@Override
+	public String getRetryAfter() {
+		return retryAfter;
+	}
+}
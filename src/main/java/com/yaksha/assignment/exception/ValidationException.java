@@ -1,8 +1,24 @@
 package com.yaksha.assignment.exception;
 
-public class ValidationException extends RuntimeException {
+public class ValidationException extends RuntimeException implements ThrowSite {
+
+	private String throwSite;
 
 	public ValidationException(String message) {
 		super(message);
 	}
+
+	public ValidationException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
+
+	@Override
+	public String getThrowSite() {
+		return throwSite;
+	}
+
+	// Set by ExceptionFactory on the stackless instances it creates
+	void setThrowSite(String throwSite) {
+		this.throwSite = throwSite;
+	}
 }
@@ -0,0 +1,156 @@
+package com.yaksha.assignment.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.exception.DeadlineExceededException;
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.exception.ResourceNotFoundException;
+import com.yaksha.assignment.exception.ServiceOverloadedException;
+import com.yaksha.assignment.exception.StoreUnavailableException;
+import com.yaksha.assignment.exception.TooManyRequestsException;
+import com.yaksha.assignment.exception.ValidationException;
+import com.yaksha.assignment.service.ProductLookupResult;
+import com.yaksha.assignment.service.ProductLookupResult.Found;
+import com.yaksha.assignment.service.ProductLookupResult.Invalid;
+import com.yaksha.assignment.service.ProductLookupResult.NotFound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Lookup timers per outcome and handled-exception counters per exception
+ * class, published through actuator as {@code product.lookup} and
+ * {@code product.errors.handled}. Batch lookups probe the store in one bulk
+ * pass, so they are timed as a whole ({@code product.lookup.batch}) and their
+ * IDs are counted per outcome ({@code product.lookup.batch.items}).
+ * <p>
+ * Every meter is created once, up front, against an internal composite
+ * registry that the actuator registry is added to when bound. The hot path
+ * only picks a prebuilt meter and records into it: no tag arrays, meter
+ * lookups or string building per request. Until bound, the meters are no-ops.
+ */
+@Component
+public class ProductMetrics implements MeterBinder {
+
+	private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+
+	private final Timer found = lookupTimer("found");
+	private final Timer notFound = lookupTimer("not_found");
+	private final Timer invalid = lookupTimer("invalid");
+	private final Timer error = lookupTimer("error");
+
+	private final Timer batch = Timer.builder("product.lookup.batch").description("Batch lookups")
+			.publishPercentileHistogram().publishPercentiles(0.5, 0.99).register(registry);
+	private final Counter foundItems = batchItemCounter("found");
+	private final Counter notFoundItems = batchItemCounter("not_found");
+	private final Counter invalidItems = batchItemCounter("invalid");
+	private final Counter errorItems = batchItemCounter("error");
+
+	private final Counter notFoundHandled = handledCounter(ResourceNotFoundException.class);
+	private final Counter validationHandled = handledCounter(ValidationException.class);
+	private final Counter genericHandled = handledCounter(GenericException.class);
+	private final Counter tooManyRequestsHandled = handledCounter(TooManyRequestsException.class);
+	private final Counter serviceOverloadedHandled = handledCounter(ServiceOverloadedException.class);
+	private final Counter deadlineExceededHandled = handledCounter(DeadlineExceededException.class);
+	private final Counter storeUnavailableHandled = handledCounter(StoreUnavailableException.class);
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		registry.add(meterRegistry);
+	}
+
+	public void recordLookup(ProductLookupResult result, long nanos) {
+		timerFor(result).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordBatch(ProductLookupResult[] results, long nanos) {
+		batch.record(nanos, TimeUnit.NANOSECONDS);
+		for (ProductLookupResult result : results) {
+			batchItemCounterFor(result).increment();
+		}
+	}
+
+	public void resourceNotFoundHandled() {
+		notFoundHandled.increment();
+	}
+
+	public void validationHandled() {
+		validationHandled.increment();
+	}
+
+	public void genericHandled() {
+		genericHandled.increment();
+	}
+
+	public void tooManyRequestsHandled() {
+		tooManyRequestsHandled.increment();
+	}
+
+	public void serviceOverloadedHandled() {
+		serviceOverloadedHandled.increment();
+	}
+
+	public void deadlineExceededHandled() {
+		deadlineExceededHandled.increment();
+	}
+
+	public void storeUnavailableHandled() {
+		storeUnavailableHandled.increment();
+	}
+
+	// Counts an error answered outside GlobalExceptionHandler (outcomes mode, in-band export errors) as it would
+	public void handled(ErrorCode errorCode) {
+		switch (errorCode) {
+		case RESOURCE_NOT_FOUND -> resourceNotFoundHandled();
+		case VALIDATION_FAILED -> validationHandled();
+		case TOO_MANY_REQUESTS -> tooManyRequestsHandled();
+		case SERVICE_OVERLOADED -> serviceOverloadedHandled();
+		case DEADLINE_EXCEEDED -> deadlineExceededHandled();
+		case STORE_UNAVAILABLE -> storeUnavailableHandled();
+		default -> genericHandled();
+		}
+	}
+
+	private Timer timerFor(ProductLookupResult result) {
+		if (result instanceof Found) {
+			return found;
+		} else if (result instanceof NotFound) {
+			return notFound;
+		} else if (result instanceof Invalid) {
+			return invalid;
+		}
+		return error;
+	}
+
+	private Counter batchItemCounterFor(ProductLookupResult result) {
+		if (result instanceof Found) {
+			return foundItems;
+		} else if (result instanceof NotFound) {
+			return notFoundItems;
+		} else if (result instanceof Invalid) {
+			return invalidItems;
+		}
+		return errorItems;
+	}
+
+	private Timer lookupTimer(String outcome) {
+		return Timer.builder("product.lookup").description("Product lookups by outcome").tag("outcome", outcome)
+				.publishPercentileHistogram().publishPercentiles(0.5, 0.99).register(registry);
+	}
+
+	private Counter batchItemCounter(String outcome) {
+		return Counter.builder("product.lookup.batch.items").description("Batch-looked-up IDs by outcome")
+				.tag("outcome", outcome).register(registry);
+	}
+
+	private Counter handledCounter(Class<? extends RuntimeException> type) {
+		return Counter.builder("product.errors.handled").description("Errors answered with an error status")
+				.tag("exception", type.getSimpleName()).register(registry);
+	}
+}
@@ -0,0 +1,108 @@
+package com.yaksha.assignment.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps in-flight requests with a limit that adapts to latency (AIMD): each
+ * request that completes within the target latency raises the limit by one
+ * step, each slower one cuts it by a fixed ratio, always staying between the
+ * configured minimum and maximum. Requests over the limit are shed at once
+ * instead of queueing in Tomcat.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	// Fractional limit so additive increase can be spread as 1/limit per success
+	private volatile double limit;
+	private volatile Settings settings;
+
+	public AdaptiveConcurrencyLimiter(@Value("${product.load-shedding.enabled:true}") boolean enabled,
+			@Value("${product.load-shedding.min-limit:20}") int minLimit,
+			@Value("${product.load-shedding.max-limit:1000}") int maxLimit,
+			@Value("${product.load-shedding.target-latency:100ms}") Duration targetLatency) {
+		this.settings = new Settings(enabled, minLimit, maxLimit, targetLatency);
+		this.limit = maxLimit;
+	}
+
+	public boolean tryAcquire() {
+		if (!settings.enabled) {
+			return true;
+		}
+		int current = inFlight.get();
+		while (current < (int) limit) {
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+			current = inFlight.get();
+		}
+		return false;
+	}
+
+	// Must be called once for every successful tryAcquire while enabled
+	public void release(long latencyNanos) {
+		inFlight.decrementAndGet();
+		Settings current = settings;
+		double next = latencyNanos <= current.targetLatencyNanos ? limit + 1.0 / Math.max(1.0, limit)
+				: limit * BACKOFF_RATIO;
+		// Lost updates under contention only delay adaptation, so a plain volatile write is enough
+		limit = Math.min(current.maxLimit, Math.max(current.minLimit, next));
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public Settings getSettings() {
+		return settings;
+	}
+
+	public void setSettings(Settings settings) {
+		this.settings = settings;
+		this.limit = Math.min(settings.maxLimit, Math.max(settings.minLimit, limit));
+	}
+
+	public static final class Settings {
+
+		private final boolean enabled;
+		private final int minLimit;
+		private final int maxLimit;
+		private final long targetLatencyNanos;
+
+		public Settings(boolean enabled, int minLimit, int maxLimit, Duration targetLatency) {
+			if (minLimit < 1 || maxLimit < minLimit) {
+				throw new IllegalArgumentException("Invalid concurrency bounds: " + minLimit + ".." + maxLimit);
+			}
+			this.enabled = enabled;
+			this.minLimit = minLimit;
+			this.maxLimit = maxLimit;
+			this.targetLatencyNanos = targetLatency.toNanos();
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public int getMinLimit() {
+			return minLimit;
+		}
+
+		public int getMaxLimit() {
+			return maxLimit;
+		}
+
+		public long getTargetLatencyMillis() {
+			return targetLatencyNanos / 1_000_000;
+		}
+	}
+}
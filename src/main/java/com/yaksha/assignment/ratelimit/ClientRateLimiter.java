@@ -0,0 +1,137 @@
+package com.yaksha.assignment.ratelimit;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-client token bucket, implemented as the generic cell rate algorithm:
+ * each client is a single {@link AtomicLong} holding its theoretical arrival
+ * time, updated with a CAS loop. Clients live in a {@link ConcurrentHashMap},
+ * so there is no global lock on the request path.
+ * <p>
+ * The rate, burst and on/off switch can be changed at runtime. The map is
+ * bounded by {@code product.rate-limit.max-clients}: once it is full, idle
+ * clients (whose bucket has refilled) are swept out at most once per second,
+ * and a new client arriving while it is still full is rejected rather than
+ * tracked. Known clients are never affected, and a flood of distinct client
+ * keys costs one scan per second instead of one per request.
+ */
+@Component
+public class ClientRateLimiter {
+
+	private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final ConcurrentHashMap<String, AtomicLong> clients = new ConcurrentHashMap<>();
+	private final int maxClients;
+	private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+	private final LongAdder rejectedFull = new LongAdder();
+
+	private volatile Settings settings;
+
+	public ClientRateLimiter(@Value("${product.rate-limit.enabled:true}") boolean enabled,
+			@Value("${product.rate-limit.requests-per-second:1000}") double requestsPerSecond,
+			@Value("${product.rate-limit.burst:2000}") int burst,
+			@Value("${product.rate-limit.max-clients:100000}") int maxClients) {
+		this.maxClients = maxClients;
+		this.settings = new Settings(enabled, requestsPerSecond, burst);
+	}
+
+	// True when the client may proceed; consumes one token
+	public boolean tryAcquire(String client) {
+		Settings current = settings;
+		if (!current.enabled) {
+			return true;
+		}
+		AtomicLong arrival = clients.get(client);
+		if (arrival == null) {
+			if (clients.size() >= maxClients && !sweep(System.nanoTime())) {
+				rejectedFull.increment();
+				return false;
+			}
+			arrival = clients.computeIfAbsent(client, key -> new AtomicLong(Long.MIN_VALUE));
+		}
+		while (true) {
+			long now = System.nanoTime();
+			long tat = arrival.get();
+			long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+			if (base - now > current.burstToleranceNanos) {
+				return false;
+			}
+			if (arrival.compareAndSet(tat, base + current.intervalNanos)) {
+				return true;
+			}
+		}
+	}
+
+	public Settings getSettings() {
+		return settings;
+	}
+
+	public void setSettings(Settings settings) {
+		this.settings = settings;
+	}
+
+	public int trackedClients() {
+		return clients.size();
+	}
+
+	// New clients turned away because the map was full
+	public long rejectedFullCount() {
+		return rejectedFull.sum();
+	}
+
+	/**
+	 * Drops idle clients (a client whose arrival time has passed has a full
+	 * bucket and can be forgotten), unless another sweep ran within the last
+	 * second. Returns whether there is room for a new client afterwards.
+	 */
+	private boolean sweep(long now) {
+		long due = nextSweep.get();
+		if (now - due >= 0 && nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+			for (Iterator<AtomicLong> it = clients.values().iterator(); it.hasNext();) {
+				if (it.next().get() - now < 0) {
+					it.remove();
+				}
+			}
+		}
+		return clients.size() < maxClients;
+	}
+
+	public static final class Settings {
+
+		private final boolean enabled;
+		private final double requestsPerSecond;
+		private final int burst;
+		private final long intervalNanos;
+		private final long burstToleranceNanos;
+
+		public Settings(boolean enabled, double requestsPerSecond, int burst) {
+			if (requestsPerSecond <= 0 || burst < 1) {
+				throw new IllegalArgumentException("Rate and burst must be positive");
+			}
+			this.enabled = enabled;
+			this.requestsPerSecond = requestsPerSecond;
+			this.burst = burst;
+			this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+			this.burstToleranceNanos = intervalNanos * (burst - 1);
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public double getRequestsPerSecond() {
+			return requestsPerSecond;
+		}
+
+		public int getBurst() {
+			return burst;
+		}
+	}
+}
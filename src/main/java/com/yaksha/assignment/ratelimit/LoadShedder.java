@@ -0,0 +1,79 @@
+package com.yaksha.assignment.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.exception.ServiceOverloadedException;
+import com.yaksha.assignment.exception.TooManyRequestsException;
+
+/**
+ * Admission for product requests, shared by both web stacks: the client's
+ * rate limit first, then the adaptive concurrency limit. Rejections are
+ * thrown as preallocated, stackless exceptions that the error handlers answer
+ * as 429/503 with Retry-After, at the cost of one throw. LoadSheddingInterceptor
+ * applies it on the servlet stack, ReactiveLoadShedding on the reactive one.
+ */
+@Component
+public class LoadShedder {
+
+	private final ClientRateLimiter rateLimiter;
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+	// Header identifying the client (for example set by the edge proxy); the remote address when absent
+	private final String clientHeader;
+
+	private volatile TooManyRequestsException tooManyRequests;
+	private volatile ServiceOverloadedException overloaded;
+
+	public LoadShedder(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+			@Value("${product.rate-limit.client-header:}") String clientHeader,
+			@Value("${product.rate-limit.retry-after:1s}") Duration rateLimitRetryAfter,
+			@Value("${product.load-shedding.retry-after:1s}") Duration sheddingRetryAfter) {
+		this.rateLimiter = rateLimiter;
+		this.concurrencyLimiter = concurrencyLimiter;
+		this.clientHeader = clientHeader;
+		setRetryAfter(rateLimitRetryAfter, sheddingRetryAfter);
+	}
+
+	/**
+	 * Admits a request from the client or throws the matching preallocated
+	 * rejection. Returns true when a concurrency permit was taken, which the
+	 * caller returns with {@link #release(long)} once the response is done.
+	 */
+	public boolean admit(String client) {
+		if (!rateLimiter.tryAcquire(client)) {
+			throw tooManyRequests;
+		}
+		if (!concurrencyLimiter.getSettings().isEnabled()) {
+			return false;
+		}
+		if (!concurrencyLimiter.tryAcquire()) {
+			throw overloaded;
+		}
+		return true;
+	}
+
+	public void release(long startedAtNanos) {
+		concurrencyLimiter.release(System.nanoTime() - startedAtNanos);
+	}
+
+	public String getClientHeader() {
+		return clientHeader;
+	}
+
+	public long getRateLimitRetryAfterSeconds() {
+		return Long.parseLong(tooManyRequests.getRetryAfter());
+	}
+
+	public long getSheddingRetryAfterSeconds() {
+		return Long.parseLong(overloaded.getRetryAfter());
+	}
+
+	public void setRetryAfter(Duration rateLimitRetryAfter, Duration sheddingRetryAfter) {
+		this.tooManyRequests = new TooManyRequestsException("Too many requests, retry later.",
+				Math.max(1, rateLimitRetryAfter.toSeconds()));
+		this.overloaded = new ServiceOverloadedException("Service overloaded, retry later.",
+				Math.max(1, sheddingRetryAfter.toSeconds()));
+	}
+}
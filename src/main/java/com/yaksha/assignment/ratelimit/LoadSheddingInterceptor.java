@@ -0,0 +1,59 @@
+package com.yaksha.assignment.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Fails fast on product requests that exceed the client's rate or the
+ * adaptive concurrency limit (see LoadShedder). Rejections propagate to
+ * GlobalExceptionHandler, which answers them as 429/503 with Retry-After.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+	private static final String STARTED_AT = LoadSheddingInterceptor.class.getName() + ".startedAt";
+
+	private final LoadShedder shedder;
+
+	public LoadSheddingInterceptor(LoadShedder shedder) {
+		this.shedder = shedder;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getDispatcherType() == DispatcherType.ASYNC) {
+			// async requests were admitted on their first dispatch; the permit is released after this one
+			return true;
+		}
+		if (shedder.admit(clientOf(request))) {
+			request.setAttribute(STARTED_AT, System.nanoTime());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		Object startedAt = request.getAttribute(STARTED_AT);
+		if (startedAt != null) {
+			shedder.release((Long) startedAt);
+		}
+	}
+
+	private String clientOf(HttpServletRequest request) {
+		String clientHeader = shedder.getClientHeader();
+		if (!clientHeader.isEmpty()) {
+			String client = request.getHeader(clientHeader);
+			if (client != null) {
+				return client;
+			}
+		}
+		return request.getRemoteAddr();
+	}
+}
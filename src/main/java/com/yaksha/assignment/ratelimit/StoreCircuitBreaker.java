@@ -0,0 +1,349 @@
+package com.yaksha.assignment.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.exception.StoreUnavailableException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Circuit breaker and bulkhead around product store access, so a slow or
+ * failing database costs requests one fast 503 instead of a full JDBC
+ * timeout each.
+ * <p>
+ * The bulkhead caps concurrent store calls; calls over the cap are rejected
+ * at once rather than queueing. The breaker counts failed calls and calls
+ * slower than the slow-call threshold over a window of calls. Once at least
+ * the minimum number of calls has been seen and the share of bad ones reaches
+ * the failure-rate threshold, it opens and every call is rejected for the open
+ * duration. It then lets a few trial calls through (half-open): all of them
+ * succeeding closes it, any bad one opens it again.
+ * <p>
+ * Rejections throw a preallocated StoreUnavailableException. State,
+ * settings and recent transitions are shown and tuned at
+ * {@code /actuator/storebreaker}; meters are published as
+ * {@code product.store.*}. Import batches and export cursors go through
+ * it; nothing else reaches the store (lookups are answered from the
+ * in-memory catalog in ProductRepository), so the bookkeeping takes a lock
+ * per call.
+ */
+@Component
+public class StoreCircuitBreaker implements MeterBinder {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	public record Transition(State from, State to, Instant at) {
+	}
+
+	private static final int MAX_TRANSITIONS = 20;
+
+	private volatile Settings settings;
+	private volatile State state = State.CLOSED;
+	// Replaced when the bulkhead size changes; calls release the instance they acquired
+	private volatile Semaphore bulkhead;
+	private volatile StoreUnavailableException open;
+	private volatile StoreUnavailableException busy;
+
+	// Guarded by this
+	private int windowCalls;
+	private int windowFailures;
+	private int trialsStarted;
+	private int trialSuccesses;
+	private long openedAt;
+	private final Deque<Transition> transitions = new ArrayDeque<>();
+	private final Map<State, LongAdder> transitionCounts = new EnumMap<>(State.class);
+
+	private final LongAdder rejectedOpen = new LongAdder();
+	private final LongAdder rejectedBulkhead = new LongAdder();
+	private final LongAdder failedCalls = new LongAdder();
+	private final LongAdder slowCalls = new LongAdder();
+
+	public StoreCircuitBreaker(@Value("${product.store.breaker.enabled:true}") boolean enabled,
+			@Value("${product.store.breaker.failure-rate-threshold:50}") int failureRateThreshold,
+			@Value("${product.store.breaker.slow-call-threshold:1s}") Duration slowCallThreshold,
+			@Value("${product.store.breaker.minimum-calls:20}") int minimumCalls,
+			@Value("${product.store.breaker.window-size:100}") int windowSize,
+			@Value("${product.store.breaker.open-duration:10s}") Duration openDuration,
+			@Value("${product.store.breaker.half-open-calls:5}") int halfOpenCalls,
+			@Value("${product.store.bulkhead.max-concurrent:20}") int bulkheadMaxConcurrent) {
+		for (State to : State.values()) {
+			transitionCounts.put(to, new LongAdder());
+		}
+		setSettings(new Settings(enabled, failureRateThreshold, slowCallThreshold, minimumCalls, windowSize,
+				openDuration, halfOpenCalls, bulkheadMaxConcurrent));
+	}
+
+	// A store write or query, such as an import transaction; failed and slow calls count against the store
+	public void run(Runnable access) {
+		guard(() -> {
+			access.run();
+			return null;
+		}, false);
+	}
+
+	// A read that lasts as long as the data takes to stream, such as the export cursor: never counted as slow, and
+	// only DataAccessExceptions count as failures, so a client going away mid-stream is not held against the store
+	public void scan(Runnable access) {
+		guard(() -> {
+			access.run();
+			return null;
+		}, true);
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public Settings getSettings() {
+		return settings;
+	}
+
+	public synchronized void setSettings(Settings settings) {
+		if (this.settings == null || this.settings.bulkheadMaxConcurrent != settings.bulkheadMaxConcurrent) {
+			this.bulkhead = new Semaphore(settings.bulkheadMaxConcurrent);
+		}
+		long retryAfterSeconds = Math.max(1, settings.openDurationNanos / 1_000_000_000);
+		this.open = new StoreUnavailableException("Product store unavailable, retry later.", retryAfterSeconds);
+		this.busy = new StoreUnavailableException("Product store busy, retry later.", 1);
+		this.settings = settings;
+	}
+
+	// Forces a state, for operators; CLOSED also clears the failure window
+	public synchronized void forceState(State target) {
+		if (target != state) {
+			transition(target);
+		}
+	}
+
+	public synchronized int getWindowCalls() {
+		return windowCalls;
+	}
+
+	public synchronized int getWindowFailures() {
+		return windowFailures;
+	}
+
+	public synchronized List<Transition> getTransitions() {
+		return new ArrayList<>(transitions);
+	}
+
+	public int getBulkheadInUse() {
+		return settings.bulkheadMaxConcurrent - bulkhead.availablePermits();
+	}
+
+	public long getRejectedOpenCount() {
+		return rejectedOpen.sum();
+	}
+
+	public long getRejectedBulkheadCount() {
+		return rejectedBulkhead.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("product.store.breaker.state", this, breaker -> breaker.getState().ordinal())
+				.description("Store circuit breaker state: 0 closed, 1 open, 2 half-open").register(registry);
+		for (State to : State.values()) {
+			FunctionCounter.builder("product.store.breaker.transitions", transitionCounts.get(to), LongAdder::sum)
+					.tag("to", to.name().toLowerCase()).description("Store circuit breaker state changes")
+					.register(registry);
+		}
+		FunctionCounter.builder("product.store.rejected", rejectedOpen, LongAdder::sum).tag("reason", "open")
+				.description("Store calls rejected without reaching the store").register(registry);
+		FunctionCounter.builder("product.store.rejected", rejectedBulkhead, LongAdder::sum).tag("reason", "bulkhead")
+				.description("Store calls rejected without reaching the store").register(registry);
+		FunctionCounter.builder("product.store.calls.bad", failedCalls, LongAdder::sum).tag("kind", "failed")
+				.description("Store calls counted against the breaker").register(registry);
+		FunctionCounter.builder("product.store.calls.bad", slowCalls, LongAdder::sum).tag("kind", "slow")
+				.description("Store calls counted against the breaker").register(registry);
+		Gauge.builder("product.store.bulkhead.in-use", this, StoreCircuitBreaker::getBulkheadInUse)
+				.description("Store calls in progress").register(registry);
+	}
+
+	// Runs the access inside a bulkhead permit and records its outcome; a streaming access is judged as in scan()
+	private <T> T guard(Supplier<T> access, boolean streaming) {
+		Settings current = settings;
+		if (!current.enabled) {
+			return access.get();
+		}
+		Semaphore permits = acquire(current);
+		long start = System.nanoTime();
+		boolean failed = !streaming;
+		try {
+			T result = access.get();
+			failed = false;
+			return result;
+		} catch (DataAccessException ex) {
+			failed = true;
+			throw ex;
+		} finally {
+			permits.release();
+			record(current, failed, streaming ? 0 : System.nanoTime() - start);
+		}
+	}
+
+	// Takes a bulkhead permit and passes the breaker, or throws the matching preallocated rejection
+	private Semaphore acquire(Settings current) {
+		Semaphore permits = bulkhead;
+		if (!permits.tryAcquire()) {
+			rejectedBulkhead.increment();
+			throw busy;
+		}
+		if (state != State.CLOSED && !admit(current)) {
+			permits.release();
+			rejectedOpen.increment();
+			throw open;
+		}
+		return permits;
+	}
+
+	private synchronized boolean admit(Settings current) {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < current.openDurationNanos) {
+				return false;
+			}
+			transition(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (trialsStarted >= current.halfOpenCalls) {
+				return false;
+			}
+			trialsStarted++;
+		}
+		return true;
+	}
+
+	private void record(Settings current, boolean failed, long latencyNanos) {
+		boolean slow = latencyNanos > current.slowCallThresholdNanos;
+		if (failed) {
+			failedCalls.increment();
+		} else if (slow) {
+			slowCalls.increment();
+		}
+		boolean bad = failed || slow;
+		synchronized (this) {
+			if (state == State.HALF_OPEN) {
+				if (bad) {
+					transition(State.OPEN);
+				} else if (++trialSuccesses >= current.halfOpenCalls) {
+					transition(State.CLOSED);
+				}
+			} else if (state == State.CLOSED) {
+				windowCalls++;
+				if (bad) {
+					windowFailures++;
+				}
+				if (windowCalls >= current.minimumCalls
+						&& windowFailures * 100L >= (long) current.failureRateThreshold * windowCalls) {
+					transition(State.OPEN);
+				} else if (windowCalls >= current.windowSize) {
+					windowCalls = 0;
+					windowFailures = 0;
+				}
+			}
+			// calls completing while open do not count
+		}
+	}
+
+	// Caller holds the lock
+	private void transition(State to) {
+		if (transitions.size() == MAX_TRANSITIONS) {
+			transitions.removeFirst();
+		}
+		transitions.addLast(new Transition(state, to, Instant.now()));
+		transitionCounts.get(to).increment();
+		state = to;
+		windowCalls = 0;
+		windowFailures = 0;
+		trialsStarted = 0;
+		trialSuccesses = 0;
+		if (to == State.OPEN) {
+			openedAt = System.nanoTime();
+		}
+	}
+
+	public static final class Settings {
+
+		private final boolean enabled;
+		private final int failureRateThreshold;
+		private final long slowCallThresholdNanos;
+		private final int minimumCalls;
+		private final int windowSize;
+		private final long openDurationNanos;
+		private final int halfOpenCalls;
+		private final int bulkheadMaxConcurrent;
+
+		public Settings(boolean enabled, int failureRateThreshold, Duration slowCallThreshold, int minimumCalls,
+				int windowSize, Duration openDuration, int halfOpenCalls, int bulkheadMaxConcurrent) {
+			if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+				throw new IllegalArgumentException("Invalid failure rate threshold: " + failureRateThreshold + "%");
+			}
+			if (minimumCalls < 1 || windowSize < minimumCalls) {
+				throw new IllegalArgumentException("Invalid breaker window: " + minimumCalls + ".." + windowSize);
+			}
+			if (halfOpenCalls < 1 || bulkheadMaxConcurrent < 1) {
+				throw new IllegalArgumentException(
+						"Invalid call limits: half-open " + halfOpenCalls + ", bulkhead " + bulkheadMaxConcurrent);
+			}
+			this.enabled = enabled;
+			this.failureRateThreshold = failureRateThreshold;
+			this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+			this.minimumCalls = minimumCalls;
+			this.windowSize = windowSize;
+			this.openDurationNanos = openDuration.toNanos();
+			this.halfOpenCalls = halfOpenCalls;
+			this.bulkheadMaxConcurrent = bulkheadMaxConcurrent;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public int getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		public long getSlowCallThresholdMillis() {
+			return slowCallThresholdNanos / 1_000_000;
+		}
+
+		public int getMinimumCalls() {
+			return minimumCalls;
+		}
+
+		public int getWindowSize() {
+			return windowSize;
+		}
+
+		public long getOpenDurationMillis() {
+			return openDurationNanos / 1_000_000;
+		}
+
+		public int getHalfOpenCalls() {
+			return halfOpenCalls;
+		}
+
+		public int getBulkheadMaxConcurrent() {
+			return bulkheadMaxConcurrent;
+		}
+	}
+}
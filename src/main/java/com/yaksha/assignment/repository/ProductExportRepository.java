@@ -0,0 +1,55 @@
+package com.yaksha.assignment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+
+/**
+ * Reads the whole product table through a forward-only, read-only cursor,
+ * handing each row to the caller as it arrives, so memory use does not grow
+ * with the catalog size.
+ * <p>
+ * The driver fetches {@code product.export.fetch-size} rows per round trip.
+ * MySQL Connector/J only honours a fetch size with
+ * {@code useCursorFetch=true} on the JDBC URL; without it the whole result is
+ * buffered in the driver.
+ * <p>
+ * The read goes through StoreCircuitBreaker, so while the database is failing
+ * an export is rejected at once with StoreUnavailableException.
+ */
+@Repository
+public class ProductExportRepository {
+
+	private static final String SELECT_ALL = "select id, name, price_cents, version, last_modified from product order by id";
+
+	private final JdbcTemplate jdbc;
+	private final StoreCircuitBreaker storeBreaker;
+	private final int fetchSize;
+
+	// JdbcTemplate is resolved on first use, so web slices without a DataSource still start
+	public ProductExportRepository(@Lazy JdbcTemplate jdbc, StoreCircuitBreaker storeBreaker,
+			@Value("${product.export.fetch-size:1000}") int fetchSize) {
+		this.jdbc = jdbc;
+		this.storeBreaker = storeBreaker;
+		this.fetchSize = fetchSize;
+	}
+
+	public void forEach(Consumer<Product> action) {
+		storeBreaker.scan(() -> jdbc.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			return statement;
+		}, (ResultSet rs) -> {
+			action.accept(new Product(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+		}));
+	}
+}
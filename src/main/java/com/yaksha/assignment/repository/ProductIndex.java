@@ -0,0 +1,121 @@
+package com.yaksha.assignment.repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import com.yaksha.assignment.entity.Product;
+
+/**
+ * Open-addressing hash index from primitive {@code long} IDs to products.
+ * <p>
+ * Keys live in a plain {@code long[]} (0 marks an empty slot, so IDs must be
+ * positive) and values in a parallel array, so a probe neither boxes the key
+ * nor allocates. Readers are lock-free; writers are serialized and publish a
+ * slot by storing its key with release semantics after the value, and resize
+ * by swapping in a fully built table.
+ */
+public final class ProductIndex {
+
+	private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final VarHandle REFS = MethodHandles.arrayElementVarHandle(Product[].class);
+
+	// Slots are kept at most half full, which keeps linear probe chains short
+	private static final int MIN_CAPACITY = 16;
+
+	private volatile Table table;
+	private int size;
+
+	public ProductIndex(int expectedSize) {
+		this.table = new Table(capacityFor(expectedSize));
+	}
+
+	public Product get(long id) {
+		if (id <= 0) {
+			return null;
+		}
+		Table t = table;
+		int mask = t.keys.length - 1;
+		for (int i = mix(id) & mask;; i = (i + 1) & mask) {
+			long key = (long) LONGS.getAcquire(t.keys, i);
+			if (key == id) {
+				return (Product) REFS.getAcquire(t.values, i);
+			}
+			if (key == 0) {
+				return null;
+			}
+		}
+	}
+
+	public synchronized void put(Product product) {
+		long id = product.getId();
+		if (id <= 0) {
+			throw new IllegalArgumentException("Product IDs must be positive: " + id);
+		}
+		if ((size + 1) * 2 > table.keys.length) {
+			table = resize(table, table.keys.length * 2);
+		}
+		if (insert(table, product)) {
+			size++;
+		}
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public long capacity() {
+		return table.keys.length;
+	}
+
+	private static boolean insert(Table t, Product product) {
+		long id = product.getId();
+		int mask = t.keys.length - 1;
+		for (int i = mix(id) & mask;; i = (i + 1) & mask) {
+			long key = t.keys[i];
+			if (key == id) {
+				REFS.setRelease(t.values, i, product);
+				return false;
+			}
+			if (key == 0) {
+				REFS.setRelease(t.values, i, product);
+				LONGS.setRelease(t.keys, i, id);
+				return true;
+			}
+		}
+	}
+
+	private static Table resize(Table old, int capacity) {
+		Table t = new Table(capacity);
+		for (int i = 0; i < old.keys.length; i++) {
+			if (old.keys[i] != 0) {
+				insert(t, old.values[i]);
+			}
+		}
+		return t;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < (long) expectedSize * 2) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	// Spreads sequential IDs across the table (64-bit murmur finalizer)
+	private static int mix(long id) {
+		long h = id * 0xff51afd7ed558ccdL;
+		h ^= h >>> 32;
+		return (int) h;
+	}
+
+	private static final class Table {
+		final long[] keys;
+		final Product[] values;
+
+		Table(int capacity) {
+			keys = new long[capacity];
+			values = new Product[capacity];
+		}
+	}
+}
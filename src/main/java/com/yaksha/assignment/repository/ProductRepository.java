@@ -0,0 +1,84 @@
+package com.yaksha.assignment.repository;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.yaksha.assignment.entity.Product;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Product catalog held in memory behind a {@link ProductIndex}, loaded at
+ * startup so lookups by numeric ID never box the key or touch the database.
+ * <p>
+ * With {@code product.store.source=database} (the default) the index is
+ * loaded from the {@code product} table when the repository is created, and
+ * kept current by ProductImportService. {@code product.store.source=seed}
+ * generates {@code "Product 1"} to {@code "Product N"} instead and never reads
+ * the database; it is meant for tests and benchmarks.
+ * <p>
+ * Memory footprint (64-bit JVM, compressed oops), per product: ~48 bytes for
+ * the {@link Product} object, ~56 bytes for a short name such as
+ * {@code "Product 1234567"}, and 24-48 bytes of index slots (a {@code long}
+ * key plus a reference, at a load factor between 0.25 and 0.5). That is
+ * roughly 130-150 bytes per product, so 3 million products need about 450 MB
+ * of heap.
+ */
+@Repository
+public class ProductRepository {
+
+	private final ProductIndex index;
+
+	// The EntityManagerFactory is created first, so schema generation (ddl-auto) has run before the table is read
+	@Autowired
+	public ProductRepository(ProductExportRepository table, ObjectProvider<EntityManagerFactory> entityManagerFactory,
+			@Value("${product.store.source:database}") String source,
+			@Value("${product.store.seed-size:1000}") int seedSize) {
+		this.index = new ProductIndex(seedSize);
+		switch (source) {
+		case "database" -> {
+			entityManagerFactory.getIfAvailable();
+			table.forEach(index::put);
+		}
+		case "seed" -> seed(seedSize);
+		default -> throw new IllegalArgumentException("Unknown product store source: " + source);
+		}
+	}
+
+	// Seeded catalog without a database, for tests and benchmarks
+	public ProductRepository(int seedSize) {
+		this.index = new ProductIndex(seedSize);
+		seed(seedSize);
+	}
+
+	// Returns the product, or null when no product has this ID
+	public Product findById(long id) {
+		return index.get(id);
+	}
+
+	// Probes every ID in one pass; missing products are null in the returned array
+	public Product[] findAllById(long[] ids) {
+		Product[] products = new Product[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			products[i] = index.get(ids[i]);
+		}
+		return products;
+	}
+
+	public void save(Product product) {
+		index.put(product);
+	}
+
+	public int count() {
+		return index.size();
+	}
+
+	private void seed(int seedSize) {
+		long now = System.currentTimeMillis();
+		for (long id = 1; id <= seedSize; id++) {
+			index.put(new Product(id, "Product " + id, 100 * id, 1, now));
+		}
+	}
+}
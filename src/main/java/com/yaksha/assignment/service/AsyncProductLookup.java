@@ -0,0 +1,142 @@
+package com.yaksha.assignment.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs product lookups off the request thread, for
+ * {@code GET /products/{id}/async}.
+ * <p>
+ * Lookups run on {@code product.lookup.async.threads} threads behind a queue
+ * bounded at {@code product.lookup.async.queue-capacity}; when the queue is
+ * full the lookup fails at once with a preallocated
+ * ServiceOverloadedException (503). Each lookup has a deadline of
+ * {@code product.lookup.async.deadline} from submission; when it passes, the
+ * future fails with DeadlineExceededException (504) and a lookup still
+ * waiting in the queue is skipped instead of reaching the store.
+ * <p>
+ * Futures fail with the exception itself, never wrapped, so
+ * GlobalExceptionHandler answers them like the synchronous endpoint. Queue
+ * depth, rejections and timeouts are published as
+ * {@code product.lookup.async.*}.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AsyncProductLookup implements MeterBinder {
+
+	private static final ServiceOverloadedException QUEUE_FULL = new ServiceOverloadedException(
+			"Lookup queue full, retry later.", 1);
+
+	private final ProductService products;
+	private final ThreadPoolExecutor executor;
+	private final ScheduledThreadPoolExecutor deadlines;
+	private final long deadlineNanos;
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+
+	public AsyncProductLookup(ProductService products, @Value("${product.lookup.async.threads:16}") int threads,
+			@Value("${product.lookup.async.queue-capacity:256}") int queueCapacity,
+			@Value("${product.lookup.async.deadline:2s}") Duration deadline) {
+		this.products = products;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new CustomizableThreadFactory("product-lookup-"));
+		this.deadlines = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("product-lookup-deadline-"));
+		// Lookups usually finish first: cancelled deadlines must not pile up in the scheduler
+		this.deadlines.setRemoveOnCancelPolicy(true);
+		this.deadlineNanos = deadline.toNanos();
+	}
+
+	public CompletableFuture<ProductLookupResult> lookup(String id) {
+		CompletableFuture<ProductLookupResult> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> run(id, result));
+		} catch (RejectedExecutionException ex) {
+			rejected.increment();
+			result.completeExceptionally(QUEUE_FULL);
+			return result;
+		}
+		ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+			if (result.completeExceptionally(ExceptionFactory.DEADLINE_EXCEEDED)) {
+				timedOut.increment();
+			}
+		}, deadlineNanos, TimeUnit.NANOSECONDS);
+		result.whenComplete((product, failure) -> deadline.cancel(false));
+		return result;
+	}
+
+	// The exception an async stage failed with, without the CompletionException/ExecutionException wrappers
+	public static Throwable unwrap(Throwable failure) {
+		Throwable cause = failure;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	public int queueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public long rejectedCount() {
+		return rejected.sum();
+	}
+
+	public long timedOutCount() {
+		return timedOut.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("product.lookup.async.queue", this, AsyncProductLookup::queueDepth)
+				.description("Async lookups waiting for a lookup thread").register(registry);
+		Gauge.builder("product.lookup.async.active", executor, ThreadPoolExecutor::getActiveCount)
+				.description("Lookup threads running a lookup").register(registry);
+		FunctionCounter.builder("product.lookup.async.rejected", rejected, LongAdder::sum)
+				.description("Async lookups rejected because the queue was full").register(registry);
+		FunctionCounter.builder("product.lookup.async.timeouts", timedOut, LongAdder::sum)
+				.description("Async lookups that missed their deadline").register(registry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+		deadlines.shutdownNow();
+	}
+
+	private void run(String id, CompletableFuture<ProductLookupResult> result) {
+		if (result.isDone()) {
+			// the deadline passed while queued
+			return;
+		}
+		try {
+			result.complete(products.lookup(id));
+		} catch (RuntimeException | Error ex) {
+			result.completeExceptionally(ex);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.yaksha.assignment.service;
+
+import java.util.List;
+
+/**
+ * Outcome of one {@code POST /products/import} run. {@code errors} lists the
+ * rejected lines with their ErrorCode code, up to
+ * {@code product.import.max-errors}; {@code errorsTruncated} is set when
+ * more lines were rejected than listed. The counts cover every non-blank line.
+ */
+public record ImportSummary(long records, long accepted, long rejected, long elapsedMillis, double recordsPerSecond,
+		List<LineError> errors, boolean errorsTruncated) {
+
+	public record LineError(long line, int code, String detail) {
+	}
+}
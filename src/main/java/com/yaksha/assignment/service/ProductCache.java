@@ -0,0 +1,374 @@
+package com.yaksha.assignment.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.entity.Product;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Read-through cache in front of the product store.
+ * <p>
+ * Found products and misses are kept in separate maps, each with its own size
+ * bound and expire-after-write time, so scrapers probing nonexistent IDs
+ * cannot push real products out. Both maps are split into striped
+ * access-ordered LRU segments to keep lock contention low; segments are keyed
+ * by primitive {@code long} IDs and preallocate their entries, so lookups and
+ * inserts neither box nor allocate. Hit, miss and
+ * eviction counters are published to Micrometer (and so to actuator) under
+ * {@code product.cache.*}.
+ */
+@Component
+public class ProductCache implements MeterBinder {
+
+	private static final int SEGMENTS = 16;
+
+	private static final int NONE = -1;
+
+	// Stored in the negative cache, which only needs to know the ID is absent
+	private static final Product ABSENT = new Product();
+
+	private final boolean enabled;
+	private final Segment[] found = new Segment[SEGMENTS];
+	private final Segment[] missing = new Segment[SEGMENTS];
+	private final long ttlNanos;
+	private final long negativeTtlNanos;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder negativeHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public ProductCache(@Value("${product.cache.enabled:true}") boolean enabled,
+			@Value("${product.cache.max-size:10000}") int maxSize,
+			@Value("${product.cache.ttl:10m}") Duration ttl,
+			@Value("${product.cache.negative.max-size:10000}") int negativeMaxSize,
+			@Value("${product.cache.negative.ttl:30s}") Duration negativeTtl) {
+		this.enabled = enabled;
+		this.ttlNanos = ttl.toNanos();
+		this.negativeTtlNanos = negativeTtl.toNanos();
+		for (int i = 0; i < SEGMENTS; i++) {
+			found[i] = new Segment(Math.max(1, maxSize / SEGMENTS));
+			missing[i] = new Segment(Math.max(1, negativeMaxSize / SEGMENTS));
+		}
+	}
+
+	/**
+	 * Returns the cached product for the ID, loading and caching it on a miss.
+	 * Returns null when the product does not exist, which is cached negatively.
+	 */
+	public Product get(long id, LongFunction<Product> loader) {
+		if (!enabled) {
+			return loader.apply(id);
+		}
+		int segment = segmentFor(id);
+		long now = System.nanoTime();
+		Product product = found[segment].get(id, now);
+		if (product != null) {
+			hits.increment();
+			return product;
+		}
+		if (missing[segment].get(id, now) != null) {
+			negativeHits.increment();
+			return null;
+		}
+		misses.increment();
+		product = loader.apply(id);
+		if (product != null) {
+			found[segment].put(id, product, now + ttlNanos);
+		} else {
+			missing[segment].put(id, ABSENT, now + negativeTtlNanos);
+		}
+		return product;
+	}
+
+	/**
+	 * Bulk variant of {@link #get(long, LongFunction)}: all IDs missing from
+	 * the cache are handed to the loader in one call. The returned array is
+	 * parallel to {@code ids}, with null for products that do not exist.
+	 */
+	public Product[] getAll(long[] ids, Function<long[], Product[]> loader) {
+		if (!enabled) {
+			return loader.apply(ids);
+		}
+		Product[] products = new Product[ids.length];
+		int[] missed = new int[ids.length];
+		int missCount = 0;
+		long now = System.nanoTime();
+		for (int i = 0; i < ids.length; i++) {
+			int segment = segmentFor(ids[i]);
+			products[i] = found[segment].get(ids[i], now);
+			if (products[i] != null) {
+				hits.increment();
+			} else if (missing[segment].get(ids[i], now) != null) {
+				negativeHits.increment();
+			} else {
+				missed[missCount++] = i;
+			}
+		}
+		if (missCount == 0) {
+			return products;
+		}
+		misses.add(missCount);
+		long[] missedIds = new long[missCount];
+		for (int i = 0; i < missCount; i++) {
+			missedIds[i] = ids[missed[i]];
+		}
+		Product[] loaded = loader.apply(missedIds);
+		for (int i = 0; i < missCount; i++) {
+			int segment = segmentFor(missedIds[i]);
+			products[missed[i]] = loaded[i];
+			if (loaded[i] != null) {
+				found[segment].put(missedIds[i], loaded[i], now + ttlNanos);
+			} else {
+				missing[segment].put(missedIds[i], ABSENT, now + negativeTtlNanos);
+			}
+		}
+		return products;
+	}
+
+	public void invalidate(long id) {
+		int segment = segmentFor(id);
+		found[segment].remove(id);
+		missing[segment].remove(id);
+	}
+
+	public void invalidateAll() {
+		for (int i = 0; i < SEGMENTS; i++) {
+			found[i].clear();
+			missing[i].clear();
+		}
+	}
+
+	public long size() {
+		return totalSize(found);
+	}
+
+	public long negativeSize() {
+		return totalSize(missing);
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long negativeHitCount() {
+		return negativeHits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("product.cache.gets", hits, LongAdder::sum).tag("result", "hit")
+				.description("Product cache lookups").register(registry);
+		FunctionCounter.builder("product.cache.gets", negativeHits, LongAdder::sum).tag("result", "negative_hit")
+				.description("Product cache lookups").register(registry);
+		FunctionCounter.builder("product.cache.gets", misses, LongAdder::sum).tag("result", "miss")
+				.description("Product cache lookups").register(registry);
+		FunctionCounter.builder("product.cache.evictions", evictions, LongAdder::sum)
+				.description("Entries evicted by the size bound").register(registry);
+		Gauge.builder("product.cache.size", this, ProductCache::size).tag("cache", "found").register(registry);
+		Gauge.builder("product.cache.size", this, ProductCache::negativeSize).tag("cache", "missing")
+				.register(registry);
+	}
+
+	// The top bits pick the segment, the bits below them the slot within it
+	private static int segmentFor(long id) {
+		long h = id * 0x9e3779b97f4a7c15L;
+		return (int) (h >>> 60);
+	}
+
+	private static int hash(long id) {
+		long h = id * 0x9e3779b97f4a7c15L;
+		return (int) (h >>> 28);
+	}
+
+	private static long totalSize(Segment[] segments) {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Access-ordered LRU map from primitive {@code long} IDs to products with an
+	 * expiry time. Entries live in preallocated parallel arrays, linked from
+	 * least to most recently used, and an open-addressing table of entry
+	 * indexes finds them, so no operation boxes the key or allocates. Removal
+	 * shifts the following probe chain back instead of leaving tombstones.
+	 */
+	private final class Segment {
+
+		private final int maxSize;
+		// Entry index + 1; 0 marks an empty slot
+		private final int[] slots;
+		private final long[] ids;
+		private final Product[] products;
+		private final long[] expiresAt;
+		private final int[] prev;
+		// Also chains free entries
+		private final int[] next;
+		private int eldest = NONE;
+		private int youngest = NONE;
+		private int free;
+		private int size;
+
+		Segment(int maxSize) {
+			this.maxSize = maxSize;
+			this.slots = new int[Integer.highestOneBit(Math.max(2, 2 * maxSize) - 1) << 1];
+			this.ids = new long[maxSize];
+			this.products = new Product[maxSize];
+			this.expiresAt = new long[maxSize];
+			this.prev = new int[maxSize];
+			this.next = new int[maxSize];
+			resetFreeList();
+		}
+
+		synchronized Product get(long id, long now) {
+			int slot = find(id);
+			if (slot < 0) {
+				return null;
+			}
+			int entry = slots[slot] - 1;
+			if (expiresAt[entry] - now <= 0) {
+				removeSlot(slot);
+				return null;
+			}
+			unlink(entry);
+			linkYoungest(entry);
+			return products[entry];
+		}
+
+		synchronized void put(long id, Product product, long expires) {
+			int slot = find(id);
+			if (slot >= 0) {
+				int entry = slots[slot] - 1;
+				products[entry] = product;
+				expiresAt[entry] = expires;
+				unlink(entry);
+				linkYoungest(entry);
+				return;
+			}
+			if (size == maxSize) {
+				removeSlot(find(ids[eldest]));
+				evictions.increment();
+			}
+			int entry = free;
+			free = next[entry];
+			ids[entry] = id;
+			products[entry] = product;
+			expiresAt[entry] = expires;
+			int mask = slots.length - 1;
+			int i = hash(id) & mask;
+			while (slots[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			slots[i] = entry + 1;
+			linkYoungest(entry);
+			size++;
+		}
+
+		synchronized void remove(long id) {
+			int slot = find(id);
+			if (slot >= 0) {
+				removeSlot(slot);
+			}
+		}
+
+		synchronized void clear() {
+			Arrays.fill(slots, 0);
+			Arrays.fill(products, null);
+			eldest = NONE;
+			youngest = NONE;
+			size = 0;
+			resetFreeList();
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		// Slot holding the ID, or -1
+		private int find(long id) {
+			int mask = slots.length - 1;
+			for (int i = hash(id) & mask;; i = (i + 1) & mask) {
+				int slot = slots[i];
+				if (slot == 0) {
+					return -1;
+				}
+				if (ids[slot - 1] == id) {
+					return i;
+				}
+			}
+		}
+
+		private void removeSlot(int slot) {
+			int entry = slots[slot] - 1;
+			unlink(entry);
+			products[entry] = null;
+			next[entry] = free;
+			free = entry;
+			size--;
+			// move later entries of the probe chain into the hole when that does not pass their home slot
+			int mask = slots.length - 1;
+			int hole = slot;
+			for (int i = (hole + 1) & mask; slots[i] != 0; i = (i + 1) & mask) {
+				int home = hash(ids[slots[i] - 1]) & mask;
+				if (((i - home) & mask) >= ((i - hole) & mask)) {
+					slots[hole] = slots[i];
+					hole = i;
+				}
+			}
+			slots[hole] = 0;
+		}
+
+		private void unlink(int entry) {
+			if (prev[entry] == NONE) {
+				eldest = next[entry];
+			} else {
+				next[prev[entry]] = next[entry];
+			}
+			if (next[entry] == NONE) {
+				youngest = prev[entry];
+			} else {
+				prev[next[entry]] = prev[entry];
+			}
+		}
+
+		private void linkYoungest(int entry) {
+			prev[entry] = youngest;
+			next[entry] = NONE;
+			if (youngest == NONE) {
+				eldest = entry;
+			} else {
+				next[youngest] = entry;
+			}
+			youngest = entry;
+		}
+
+		private void resetFreeList() {
+			for (int i = 0; i < maxSize; i++) {
+				next[i] = i + 1 < maxSize ? i + 1 : NONE;
+			}
+			free = 0;
+		}
+	}
+}
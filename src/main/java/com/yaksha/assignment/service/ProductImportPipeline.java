@@ -0,0 +1,288 @@
+package com.yaksha.assignment.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.exception.ServiceOverloadedException;
+import com.yaksha.assignment.service.ImportSummary.LineError;
+import com.yaksha.assignment.service.ProductLookupResult.Invalid;
+import com.yaksha.assignment.validation.ProductIdValidator;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Two-stage NDJSON ingestion behind {@code POST /products/import}.
+ * <p>
+ * The request thread reads the body line by line, validates each record and
+ * groups accepted products into batches of {@code product.import.batch-size}.
+ * Batches pass through a queue bounded at {@code product.import.queue-capacity}
+ * to a writer thread that stores each one in a single transaction through
+ * ProductImportService. When the writer falls behind, the queue fills, the
+ * reader blocks and TCP flow control slows the client down, so memory stays
+ * bounded whatever the body size. A reader blocked on a full queue checks
+ * that the writer is still running, so an import whose writer died fails
+ * instead of waiting forever.
+ * <p>
+ * Records are validated with the rules behind ValidationException: the
+ * {@code product.id.*} rules (ProductIdValidator) plus the numeric store ID
+ * check. Rejected lines are collected with their ErrorCode code instead of
+ * being thrown. A batch that fails to write rejects all of its lines; an ID
+ * repeated within a batch is written once, with its last line's values.
+ * At most {@code product.import.max-concurrent} imports run at once; more
+ * are answered with 503.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductImportPipeline {
+
+	// Marks the end of the body for the writer
+	private static final Batch END = new Batch(List.of(), new long[0]);
+
+	private static final ServiceOverloadedException BUSY = new ServiceOverloadedException(
+			"Too many imports in progress.", 1);
+
+	// How long a hand-off waits on a full queue before checking that the writer is still running
+	private static final long HAND_OFF_POLL_MILLIS = 100;
+
+	private final ProductImportService importer;
+	private final ProductIdValidator idValidation;
+	private final JsonFactory jsonFactory = new JsonFactory();
+	private final ExecutorService writers;
+	private final Semaphore imports;
+	private final int batchSize;
+	private final int queueCapacity;
+	private final int maxErrors;
+
+	public ProductImportPipeline(ProductImportService importer, ProductIdValidator idValidation,
+			@Value("${product.import.batch-size:50}") int batchSize,
+			@Value("${product.import.queue-capacity:8}") int queueCapacity,
+			@Value("${product.import.max-concurrent:2}") int maxConcurrent,
+			@Value("${product.import.max-errors:1000}") int maxErrors) {
+		this.importer = importer;
+		this.idValidation = idValidation;
+		this.batchSize = Math.max(1, batchSize);
+		this.queueCapacity = Math.max(1, queueCapacity);
+		this.maxErrors = maxErrors;
+		this.imports = new Semaphore(maxConcurrent);
+		this.writers = Executors.newFixedThreadPool(maxConcurrent, new CustomizableThreadFactory("product-import-"));
+	}
+
+	public ImportSummary ingest(InputStream body) throws IOException {
+		if (!imports.tryAcquire()) {
+			throw BUSY;
+		}
+		try {
+			return run(body);
+		} finally {
+			imports.release();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		writers.shutdownNow();
+	}
+
+	private ImportSummary run(InputStream body) throws IOException {
+		long start = System.nanoTime();
+		Errors errors = new Errors(maxErrors);
+		BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+		Future<Long> writer = writers.submit(() -> write(queue, errors));
+
+		long records;
+		try {
+			records = read(body, queue, writer, errors);
+		} catch (IOException | RuntimeException ex) {
+			finish(queue, writer);
+			throw ex;
+		}
+		long accepted = finish(queue, writer);
+		long elapsedNanos = System.nanoTime() - start;
+		return new ImportSummary(records, accepted, records - accepted, elapsedNanos / 1_000_000,
+				elapsedNanos > 0 ? accepted * 1e9 / elapsedNanos : 0, errors.list(), errors.truncated());
+	}
+
+	// Reader stage: parses and validates lines, queueing full batches; returns the number of records. Stops early if
+	// the writer is gone, leaving finish() to report its failure.
+	private long read(InputStream body, BlockingQueue<Batch> queue, Future<Long> writer, Errors errors)
+			throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		List<Product> products = new ArrayList<>(batchSize);
+		long[] lines = new long[batchSize];
+		long records = 0;
+		try {
+			String line;
+			for (long lineNumber = 1; (line = reader.readLine()) != null; lineNumber++) {
+				if (line.isBlank()) {
+					continue;
+				}
+				records++;
+				Product product = parse(line, lineNumber, errors);
+				if (product == null) {
+					continue;
+				}
+				lines[products.size()] = lineNumber;
+				products.add(product);
+				if (products.size() == batchSize) {
+					if (!handOff(queue, new Batch(products, lines), writer)) {
+						return records;
+					}
+					products = new ArrayList<>(batchSize);
+					lines = new long[batchSize];
+				}
+			}
+			if (!products.isEmpty()) {
+				handOff(queue, new Batch(products, lines), writer);
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Import interrupted");
+		}
+		return records;
+	}
+
+	// Sends END and waits for the writer to store what is queued; returns the number of products written
+	private static long finish(BlockingQueue<Batch> queue, Future<Long> writer) throws IOException {
+		try {
+			// a writer that is gone before END can only have failed or been cancelled, which get() reports
+			handOff(queue, END, writer);
+			return writer.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			writer.cancel(true);
+			throw new InterruptedIOException("Import interrupted");
+		} catch (ExecutionException ex) {
+			throw new IllegalStateException("Import writer failed", ex.getCause());
+		}
+	}
+
+	// Queues the batch, waiting while the queue is full; false if the writer stopped before taking it. The writer
+	// only returns at END, so a plain put could block forever once it has died or been shut down.
+	private static boolean handOff(BlockingQueue<Batch> queue, Batch batch, Future<Long> writer)
+			throws InterruptedException {
+		while (!queue.offer(batch, HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+			if (writer.isDone()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Writer stage: stores batches until END; returns the number of products written
+	private long write(BlockingQueue<Batch> queue, Errors errors) throws InterruptedException {
+		long accepted = 0;
+		for (Batch batch = queue.take(); batch != END; batch = queue.take()) {
+			try {
+				accepted += importer.importBatch(batch.products());
+			} catch (RuntimeException ex) {
+				ErrorCode errorCode = ErrorCode.forException(ex.getClass());
+				String detail = errorCode == ErrorCode.GENERIC_ERROR ? GenericException.DEFAULT_MESSAGE
+						: ex.getMessage();
+				for (int i = 0; i < batch.products().size(); i++) {
+					errors.add(batch.lines()[i], errorCode, detail);
+				}
+			}
+		}
+		return accepted;
+	}
+
+	// Returns the product, or null after recording why the line was rejected. Other fields, such as version and
+	// lastModified, are ignored: ProductImportService stamps both when it writes the product.
+	private Product parse(String line, long lineNumber, Errors errors) {
+		String id = null;
+		String name = null;
+		long priceCents = -1;
+		try (JsonParser json = jsonFactory.createParser(line)) {
+			if (json.nextToken() != JsonToken.START_OBJECT) {
+				errors.add(lineNumber, ErrorCode.VALIDATION_FAILED, "Expected a JSON object.");
+				return null;
+			}
+			while (json.nextToken() == JsonToken.FIELD_NAME) {
+				String field = json.getCurrentName();
+				JsonToken value = json.nextToken();
+				switch (field) {
+				case "id" -> id = value.isScalarValue() ? json.getValueAsString() : null;
+				case "name" -> name = value == JsonToken.VALUE_STRING ? json.getText() : null;
+				case "priceCents" -> priceCents = value == JsonToken.VALUE_NUMBER_INT ? json.getLongValue() : -1;
+				default -> json.skipChildren();
+				}
+			}
+		} catch (JsonProcessingException ex) {
+			errors.add(lineNumber, ErrorCode.VALIDATION_FAILED, "Malformed JSON.");
+			return null;
+		} catch (IOException ex) {
+			// parsing a String does no I/O
+			throw new IllegalStateException(ex);
+		}
+
+		if (id == null || !idValidation.isValid(id) || ProductService.parseId(id) <= 0) {
+			errors.add(lineNumber, ErrorCode.VALIDATION_FAILED, new Invalid(id).message());
+			return null;
+		} else if (name == null || name.isBlank()) {
+			errors.add(lineNumber, ErrorCode.VALIDATION_FAILED, "Product name is required.");
+			return null;
+		} else if (priceCents < 0) {
+			errors.add(lineNumber, ErrorCode.VALIDATION_FAILED, "Price must be a non-negative number of cents.");
+			return null;
+		}
+		return new Product(ProductService.parseId(id), name, priceCents, 0, 0);
+	}
+
+	private record Batch(List<Product> products, long[] lines) {
+	}
+
+	// Rejected lines, shared by the reader and writer stages; keeps at most max entries
+	private static final class Errors {
+
+		private final int max;
+		private final List<LineError> list = new ArrayList<>();
+		private boolean truncated;
+
+		Errors(int max) {
+			this.max = max;
+		}
+
+		synchronized void add(long line, ErrorCode errorCode, String detail) {
+			if (list.size() < max) {
+				list.add(new LineError(line, errorCode.code(), detail));
+			} else {
+				truncated = true;
+			}
+		}
+
+		synchronized List<LineError> list() {
+			list.sort((a, b) -> Long.compare(a.line(), b.line()));
+			return List.copyOf(list);
+		}
+
+		synchronized boolean truncated() {
+			return truncated;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.yaksha.assignment.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+import com.yaksha.assignment.repository.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bulk product writes. Products are written in batches of
+ * {@code product.import.batch-size}, each in its own transaction: the stored
+ * rows for the batch are read with one query, known IDs are updated with the
+ * next version and new IDs are persisted with version 1, then the batch is
+ * flushed as one JDBC batch and cleared from the persistence context, so
+ * memory stays flat however many products are imported. Once a batch
+ * commits, the in-memory catalog is updated and the cached entries for its
+ * IDs are invalidated.
+ * <p>
+ * Each batch transaction goes through StoreCircuitBreaker, so while the
+ * database is failing a batch is rejected at once with
+ * StoreUnavailableException instead of waiting for a connection.
+ * <p>
+ * Keep the batch size equal to {@code hibernate.jdbc.batch_size} so each flush
+ * is sent as a single batch (see the {@code persistence} profile).
+ */
+@Service
+public class ProductImportService {
+
+	private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+	private final ProductRepository repository;
+	private final ProductCache cache;
+	private final TransactionTemplate transactions;
+	private final StoreCircuitBreaker storeBreaker;
+	private final int batchSize;
+
+	// JPA beans are resolved on first use, so web slices without a DataSource still start
+	public ProductImportService(ProductRepository repository, ProductCache cache,
+			ObjectProvider<EntityManagerFactory> entityManagerFactory, @Lazy PlatformTransactionManager transactionManager,
+			StoreCircuitBreaker storeBreaker, @Value("${product.import.batch-size:50}") int batchSize) {
+		this.entityManagerFactory = entityManagerFactory;
+		this.repository = repository;
+		this.cache = cache;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.storeBreaker = storeBreaker;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	// Returns the number of products written
+	public int importAll(Iterator<Product> products) {
+		List<Product> batch = new ArrayList<>(batchSize);
+		int written = 0;
+		while (products.hasNext()) {
+			batch.add(products.next());
+			if (batch.size() == batchSize) {
+				written += importBatch(batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			written += importBatch(batch);
+		}
+		return written;
+	}
+
+	public int importAll(Iterable<Product> products) {
+		return importAll(products.iterator());
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	// Writes the products in one transaction and one flush: either all of them are stored or none is. When an ID
+	// appears more than once, the last one wins and the earlier ones are counted as written but never sent.
+	public int importBatch(List<Product> batch) {
+		Map<Long, Product> latest = new LinkedHashMap<>();
+		for (Product product : batch) {
+			latest.put(product.getId(), product);
+		}
+		Collection<Product> writes = latest.values();
+		storeBreaker.run(() -> transactions.executeWithoutResult(status -> {
+			EntityManager entityManager = EntityManagerFactoryUtils
+					.getTransactionalEntityManager(entityManagerFactory.getObject());
+			Map<Long, Product> stored = load(entityManager, latest.keySet());
+			// every write is a new version, so ETags and Last-Modified change with the content
+			long now = System.currentTimeMillis();
+			for (Product product : writes) {
+				Product current = stored.get(product.getId());
+				product.setLastModified(now);
+				if (current == null) {
+					product.setVersion(1);
+					entityManager.persist(product);
+				} else {
+					// update the managed row, so its stored version is the one incremented
+					product.setVersion(current.getVersion() + 1);
+					current.setName(product.getName());
+					current.setPriceCents(product.getPriceCents());
+					current.setVersion(product.getVersion());
+					current.setLastModified(now);
+				}
+			}
+			entityManager.flush();
+			entityManager.clear();
+		}));
+		for (Product product : writes) {
+			repository.save(product);
+			cache.invalidate(product.getId());
+		}
+		return batch.size();
+	}
+
+	// Stored rows for the batch's IDs, in one query
+	private static Map<Long, Product> load(EntityManager entityManager, Collection<Long> ids) {
+		Map<Long, Product> stored = new HashMap<>();
+		for (Product product : entityManager.createQuery("select p from Product p where p.id in :ids", Product.class)
+				.setParameter("ids", ids).getResultList()) {
+			stored.put(product.getId(), product);
+		}
+		return stored;
+	}
+}
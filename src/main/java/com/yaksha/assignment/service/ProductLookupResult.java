@@ -0,0 +1,73 @@
+package com.yaksha.assignment.service;
+
+import org.springframework.http.HttpStatus;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.MessageTemplate;
+
+/**
+ * Outcome of a product lookup, returned instead of throwing so callers can map
+ * misses and failures without going through exception resolution. Statuses
+ * and bodies match what GlobalExceptionHandler produces for the equivalent
+ * exceptions.
+ */
+public sealed interface ProductLookupResult {
+
+	HttpStatus status();
+
+	// Response body: the product representation, or the error message
+	String body();
+
+	record Found(Product product) implements ProductLookupResult {
+		public HttpStatus status() {
+			return HttpStatus.OK;
+		}
+
+		public String body() {
+			return "Product with ID " + product.getId();
+		}
+
+		// Strong validator from the product's version stamp, shared by every product endpoint
+		public String etag() {
+			return "\"" + product.getId() + '-' + product.getVersion() + '"';
+		}
+	}
+
+	record NotFound(String id) implements ProductLookupResult {
+		public HttpStatus status() {
+			return HttpStatus.NOT_FOUND;
+		}
+
+		public String body() {
+			return message();
+		}
+
+		public String message() {
+			return MessageTemplate.NOT_FOUND.format(id);
+		}
+	}
+
+	record Invalid(String id) implements ProductLookupResult {
+		public HttpStatus status() {
+			return HttpStatus.BAD_REQUEST;
+		}
+
+		public String body() {
+			return message();
+		}
+
+		public String message() {
+			return MessageTemplate.INVALID_ID.format(id);
+		}
+	}
+
+	record Failed(String message) implements ProductLookupResult {
+		public HttpStatus status() {
+			return HttpStatus.INTERNAL_SERVER_ERROR;
+		}
+
+		public String body() {
+			return message;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.yaksha.assignment.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.springframework.stereotype.Service;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.ProductLookupResult.Failed;
+import com.yaksha.assignment.service.ProductLookupResult.Found;
+import com.yaksha.assignment.service.ProductLookupResult.Invalid;
+import com.yaksha.assignment.service.ProductLookupResult.NotFound;
+
+@Service
+public class ProductService {
+
+	private static final Failed GENERIC_FAILURE = new Failed(GenericException.DEFAULT_MESSAGE);
+
+	// Longest decimal ID that always fits in a long
+	private static final int MAX_ID_DIGITS = 18;
+
+	private final ProductCache cache;
+	private final LongFunction<Product> loader;
+	private final Function<long[], Product[]> bulkLoader;
+	private final ExceptionFactory exceptions;
+
+	public ProductService(ProductRepository repository, ProductCache cache, SingleFlight singleFlight,
+			ExceptionFactory exceptions) {
+		this.cache = cache;
+		// Concurrent misses for one ID share a single load. Loads probe the in-memory catalog, not the database, so
+		// they bypass StoreCircuitBreaker: it guards only the import transactions and export cursors that do store I/O
+		LongFunction<Product> findById = repository::findById;
+		this.loader = id -> singleFlight.load(id, findById);
+		this.bulkLoader = repository::findAllById;
+		this.exceptions = exceptions;
+	}
+
+	// Classifies the lookup without throwing
+	public ProductLookupResult lookup(String id) {
+		ProductLookupResult rejected = rejectBeforeProbe(id);
+		if (rejected != null) {
+			return rejected;
+		}
+		Product product = cache.get(parseId(id), loader);
+		return product != null ? new Found(product) : new NotFound(id);
+	}
+
+	/**
+	 * Classifies many IDs at once. Rejected IDs are classified individually;
+	 * the remaining ones are probed in a single bulk pass against the cache and
+	 * store. Results are returned in request order.
+	 */
+	public ProductLookupResult[] lookupAll(List<String> ids) {
+		ProductLookupResult[] results = new ProductLookupResult[ids.size()];
+		long[] productIds = new long[ids.size()];
+		int[] positions = new int[ids.size()];
+		int pending = 0;
+		for (int i = 0; i < results.length; i++) {
+			String id = ids.get(i);
+			results[i] = rejectBeforeProbe(id);
+			if (results[i] == null) {
+				productIds[pending] = parseId(id);
+				positions[pending++] = i;
+			}
+		}
+		Product[] products = cache.getAll(Arrays.copyOf(productIds, pending), bulkLoader);
+		for (int i = 0; i < pending; i++) {
+			int position = positions[i];
+			results[position] = products[i] != null ? new Found(products[i]) : new NotFound(ids.get(position));
+		}
+		return results;
+	}
+
+	// Exception-based variant: returns the product body or throws the matching business exception
+	public String getProduct(String id) {
+		ProductLookupResult result = lookup(id);
+		if (result instanceof Found found) {
+			return found.body();
+		}
+		throw toException(result);
+	}
+
+	// Maps a failed outcome onto the exception the controller advice handles
+	public RuntimeException toException(ProductLookupResult result) {
+		if (result instanceof NotFound notFound) {
+			return exceptions.notFound(notFound.message());
+		} else if (result instanceof Invalid invalid) {
+			return exceptions.validation(invalid.message());
+		} else if (result instanceof Failed failed) {
+			return exceptions.generic(failed.message());
+		}
+		throw new IllegalArgumentException("Not a failed lookup: " + result);
+	}
+
+	// Classifies IDs that never reach the store; null when the ID must be probed
+	private static ProductLookupResult rejectBeforeProbe(String id) {
+		if (id == null) {
+			return new Invalid(null);
+		} else if (id.equals("notfound")) {
+			return new NotFound(id);
+		} else if (id.equals("generic")) {
+			return GENERIC_FAILURE;
+		} else if (id.equals("invalid")) {
+			return new Invalid(id);
+		}
+		// Malformed IDs are rejected before the index is probed
+		return parseId(id) <= 0 ? new Invalid(id) : null;
+	}
+
+	// Parses a positive decimal ID without throwing; returns -1 when malformed or not canonical (leading zeros), so
+	// "000123" is not another URL for product 123
+	static long parseId(String id) {
+		int length = id.length();
+		if (length == 0 || length > MAX_ID_DIGITS || id.charAt(0) == '0') {
+			return -1;
+		}
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			char c = id.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+}
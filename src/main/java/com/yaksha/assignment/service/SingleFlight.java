@@ -0,0 +1,110 @@
+package com.yaksha.assignment.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.ExceptionFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Coalesces concurrent store loads of the same product ID: the first caller
+ * runs the load and every caller that arrives while it is in flight waits for
+ * and shares its outcome, so a hot ID that expires from the cache, or a
+ * popular missing one, costs one store access instead of one per request.
+ * <p>
+ * Waiters get the same product, the same null (mapped to the same 404), or
+ * the same exception instance the load threw, which GlobalExceptionHandler
+ * maps as usual. Only loads are coalesced; nothing is cached here. Calls that
+ * joined an in-flight load are counted in {@code product.lookup.coalesced}.
+ * <p>
+ * Waiters give up after {@code product.lookup.async.deadline}, the lookup
+ * deadline, with the preallocated DeadlineExceededException (504), so a stuck
+ * load holds at most one request thread past it.
+ */
+@Component
+public class SingleFlight implements MeterBinder {
+
+	private final boolean enabled;
+	private final long maxWaitNanos;
+	// Boxed keys: only cache misses get here
+	private final ConcurrentHashMap<Long, CompletableFuture<Product>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder coalesced = new LongAdder();
+
+	public SingleFlight(@Value("${product.single-flight.enabled:true}") boolean enabled,
+			@Value("${product.lookup.async.deadline:2s}") Duration maxWait) {
+		this.enabled = enabled;
+		this.maxWaitNanos = maxWait.toNanos();
+	}
+
+	public Product load(long id, LongFunction<Product> loader) {
+		if (!enabled) {
+			return loader.apply(id);
+		}
+		CompletableFuture<Product> call = new CompletableFuture<>();
+		CompletableFuture<Product> leader = inFlight.putIfAbsent(id, call);
+		if (leader != null) {
+			coalesced.increment();
+			return await(leader, maxWaitNanos);
+		}
+		try {
+			Product product = loader.apply(id);
+			call.complete(product);
+			return product;
+		} catch (RuntimeException | Error ex) {
+			call.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlight.remove(id, call);
+		}
+	}
+
+	public long coalescedCount() {
+		return coalesced.sum();
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("product.lookup.coalesced", coalesced, LongAdder::sum)
+				.description("Lookups that shared an in-flight store load for the same ID").register(registry);
+		Gauge.builder("product.lookup.in-flight", this, SingleFlight::inFlightCount)
+				.description("Distinct IDs being loaded from the store").register(registry);
+	}
+
+	// Rethrows the leader's own exception rather than the ExecutionException wrapping it
+	private static Product await(CompletableFuture<Product> leader, long maxWaitNanos) {
+		try {
+			return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException ex) {
+			throw ExceptionFactory.DEADLINE_EXCEEDED;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a product load", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			} else if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
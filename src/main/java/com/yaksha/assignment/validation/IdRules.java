@@ -0,0 +1,141 @@
+package com.yaksha.assignment.validation;
+
+/**
+ * Compiled, immutable product ID rules. Evaluated in one linear pass over the
+ * ID with a lookup table for the character set, so there is no regex engine
+ * and no backtracking regardless of input.
+ */
+public final class IdRules {
+
+	public enum Checksum {
+		NONE, LUHN
+	}
+
+	// Longest all-digit ID whose value always fits in a long
+	private static final int MAX_NUMERIC_DIGITS = 18;
+
+	private final String allowedChars;
+	private final boolean[] allowed = new boolean[128];
+	private final int minLength;
+	private final int maxLength;
+	private final long numericMin;
+	private final long numericMax;
+	private final Checksum checksum;
+
+	/**
+	 * @param allowedChars character set as literal characters and ranges, for
+	 *                     example {@code 0-9A-Za-z_-} (a leading or trailing
+	 *                     {@code -} is literal); ASCII only
+	 * @param numericMin   inclusive lower bound, applied to all-digit IDs
+	 * @param numericMax   inclusive upper bound, applied to all-digit IDs
+	 * @param checksum     check digit scheme, applied to all-digit IDs
+	 */
+	public IdRules(String allowedChars, int minLength, int maxLength, long numericMin, long numericMax,
+			Checksum checksum) {
+		if (minLength < 0 || maxLength < minLength) {
+			throw new IllegalArgumentException("Invalid length bounds: " + minLength + ".." + maxLength);
+		}
+		if (numericMax < numericMin) {
+			throw new IllegalArgumentException("Invalid numeric bounds: " + numericMin + ".." + numericMax);
+		}
+		this.allowedChars = allowedChars;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.numericMin = numericMin;
+		this.numericMax = numericMax;
+		this.checksum = checksum;
+		compileCharset(allowedChars);
+	}
+
+	public boolean isValid(CharSequence id) {
+		int length = id.length();
+		if (length < minLength || length > maxLength) {
+			return false;
+		}
+		boolean numeric = length > 0;
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			char c = id.charAt(i);
+			if (c >= 128 || !allowed[c]) {
+				return false;
+			}
+			if (numeric) {
+				if (c >= '0' && c <= '9' && i < MAX_NUMERIC_DIGITS) {
+					value = value * 10 + (c - '0');
+				} else if (c >= '0' && c <= '9') {
+					// Too many digits to be in any long range
+					return false;
+				} else {
+					numeric = false;
+				}
+			}
+		}
+		if (!numeric) {
+			return true;
+		}
+		// one spelling per numeric ID: leading zeros would alias the same product
+		if (length > 1 && id.charAt(0) == '0') {
+			return false;
+		}
+		return value >= numericMin && value <= numericMax && (checksum == Checksum.NONE || luhn(id));
+	}
+
+	public String getAllowedChars() {
+		return allowedChars;
+	}
+
+	public int getMinLength() {
+		return minLength;
+	}
+
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	public long getNumericMin() {
+		return numericMin;
+	}
+
+	public long getNumericMax() {
+		return numericMax;
+	}
+
+	public Checksum getChecksum() {
+		return checksum;
+	}
+
+	private void compileCharset(String spec) {
+		for (int i = 0; i < spec.length(); i++) {
+			char from = spec.charAt(i);
+			char to = from;
+			if (i + 2 < spec.length() && spec.charAt(i + 1) == '-') {
+				to = spec.charAt(i + 2);
+				i += 2;
+			}
+			if (to >= 128 || to < from) {
+				throw new IllegalArgumentException("Invalid character range " + from + "-" + to + " in " + spec);
+			}
+			for (char c = from; c <= to; c++) {
+				allowed[c] = true;
+			}
+		}
+	}
+
+	// Luhn check digit over an all-digit ID
+	private static boolean luhn(CharSequence id) {
+		int sum = 0;
+		boolean doubled = false;
+		for (int i = id.length() - 1; i >= 0; i--) {
+			int digit = id.charAt(i) - '0';
+			if (doubled) {
+				digit *= 2;
+				if (digit > 9) {
+					digit -= 9;
+				}
+			}
+			sum += digit;
+			doubled = !doubled;
+		}
+		return sum % 10 == 0;
+	}
+}
@@ -0,0 +1,83 @@
+package com.yaksha.assignment.validation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.MessageTemplate;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rejects malformed IDs on {@code GET /products/{id}} before the request
+ * reaches the DispatcherServlet, so no handler mapping, argument resolution
+ * or exception is involved. The 400 response matches what ValidationException
+ * produces, with the constant part of the body pre-encoded. The rules are
+ * ProductIdValidator's, so they change with the {@code idvalidation} actuator
+ * endpoint.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ProductIdValidationFilter extends OncePerRequestFilter {
+
+	private static final String PATH_PREFIX = "/products/";
+	private static final String MESSAGE_PREFIX = MessageTemplate.INVALID_ID.prefix();
+	private static final byte[] MESSAGE_PREFIX_BYTES = MESSAGE_PREFIX.getBytes(StandardCharsets.UTF_8);
+	private static final String TEXT_PLAIN_UTF8 = "text/plain;charset=UTF-8";
+
+	private final ProblemJsonWriter problems;
+	private final ProductIdValidator validator;
+
+	public ProductIdValidationFilter(ProblemJsonWriter problems, ProductIdValidator validator) {
+		this.problems = problems;
+		this.validator = validator;
+	}
+
+	// Only single-segment GET /products/{id} requests are validated
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!"GET".equals(request.getMethod())) {
+			return true;
+		}
+		String path = pathOf(request);
+		return !path.startsWith(PATH_PREFIX) || path.indexOf('/', PATH_PREFIX.length()) >= 0;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String id = pathOf(request).substring(PATH_PREFIX.length());
+		if (validator.isValid(id)) {
+			chain.doFilter(request, response);
+		} else if (problems.accepts(request)) {
+			problems.write(request, response, ErrorCode.VALIDATION_FAILED, MESSAGE_PREFIX + id);
+		} else {
+			byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+			response.setStatus(HttpStatus.BAD_REQUEST.value());
+			response.setContentType(TEXT_PLAIN_UTF8);
+			response.setContentLength(MESSAGE_PREFIX_BYTES.length + idBytes.length);
+			ServletOutputStream out = response.getOutputStream();
+			out.write(MESSAGE_PREFIX_BYTES);
+			out.write(idBytes);
+		}
+	}
+
+	// Decoded like the path Spring MVC matches against, so /products/%41 is checked as "A"
+	private static String pathOf(HttpServletRequest request) {
+		return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+	}
+}
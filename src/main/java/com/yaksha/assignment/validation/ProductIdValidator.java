@@ -0,0 +1,38 @@
+package com.yaksha.assignment.validation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The live product ID rules, shared by the servlet ID filter, the reactive
+ * routes and the import pipeline. Rules come from {@code product.id.*} and
+ * can be replaced at runtime through {@link #setRules(IdRules)} (see the
+ * {@code idvalidation} actuator endpoint).
+ */
+@Component
+public class ProductIdValidator {
+
+	private volatile IdRules rules;
+
+	public ProductIdValidator(@Value("${product.id.allowed-chars:0-9A-Za-z}") String allowedChars,
+			@Value("${product.id.min-length:1}") int minLength,
+			@Value("${product.id.max-length:32}") int maxLength,
+			@Value("${product.id.numeric-min:1}") long numericMin,
+			@Value("${product.id.numeric-max:999999999999999999}") long numericMax,
+			@Value("${product.id.checksum:none}") String checksum) {
+		this.rules = new IdRules(allowedChars, minLength, maxLength, numericMin, numericMax,
+				IdRules.Checksum.valueOf(checksum.toUpperCase()));
+	}
+
+	public boolean isValid(CharSequence id) {
+		return rules.isValid(id);
+	}
+
+	public IdRules getRules() {
+		return rules;
+	}
+
+	public void setRules(IdRules rules) {
+		this.rules = rules;
+	}
+}
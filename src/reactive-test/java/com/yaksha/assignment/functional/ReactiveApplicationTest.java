@@ -0,0 +1,129 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.yaksha.assignment.config.WebConfig;
+import com.yaksha.assignment.controller.AsyncProductController;
+import com.yaksha.assignment.controller.ProductController;
+import com.yaksha.assignment.controller.ProductExportController;
+import com.yaksha.assignment.controller.ProductImportController;
+import com.yaksha.assignment.exception.GlobalExceptionHandler;
+import com.yaksha.assignment.ratelimit.LoadSheddingInterceptor;
+import com.yaksha.assignment.validation.ProductIdValidationFilter;
+
+/**
+ * Starts the whole application on the reactive stack (built with
+ * {@code -Preactive}) to check that only the WebFlux routes serve the product
+ * API: the servlet controllers, exception handler, filter and interceptor are
+ * not created, IDs are validated ahead of the rate limit, and the
+ * servlet-only paths are not exposed.
+ * <p>
+ * The rate limit is cut to one request per client; each request names its
+ * own client in {@code X-Client} unless a test means to be limited.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+		"spring.main.web-application-type=reactive",
+		"spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1", "spring.datasource.username=sa",
+		"spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop", "product.store.source=seed",
+		// actuator endpoints are not under test; the loopback management port is not opened
+		"management.server.port=-1",
+		"product.rate-limit.client-header=X-Client", "product.rate-limit.requests-per-second=0.001",
+		"product.rate-limit.burst=1" })
+@AutoConfigureWebTestClient
+public class ReactiveApplicationTest {
+
+	private static final AtomicInteger clients = new AtomicInteger();
+
+	@Autowired
+	private WebTestClient client;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@AfterAll
+	public static void afterAll() {
+		testReport();
+	}
+
+	@Test
+	public void testReactive_ServletBeansNotCreated() throws Exception {
+		// The servlet controllers, advice, filter and interceptor are conditional on a servlet application
+		boolean none = true;
+		for (Class<?> type : List.of(ProductController.class, AsyncProductController.class,
+				ProductExportController.class, ProductImportController.class, GlobalExceptionHandler.class,
+				ProductIdValidationFilter.class, LoadSheddingInterceptor.class, WebConfig.class)) {
+			none &= context.getBeanNamesForType(type).length == 0;
+		}
+
+		yakshaAssert(currentTest(), none ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testReactive_LookupsAnsweredLikeServlet() throws Exception {
+		// Found, not found and rejected IDs get the servlet stack's statuses, bodies and validators
+		EntityExchangeResult<String> found = get("/products/10");
+		EntityExchangeResult<String> notFound = get("/products/987654321");
+		EntityExchangeResult<String> zeroPadded = get("/products/00010");
+		EntityExchangeResult<String> overlong = get("/products/" + "9".repeat(40));
+
+		yakshaAssert(currentTest(), found.getStatus().value() == 200 && found.getResponseHeaders().getETag() != null
+				&& notFound.getStatus().value() == 404
+				&& "Product with ID 987654321 not found.".equals(notFound.getResponseBody())
+				&& zeroPadded.getStatus().value() == 400
+				&& "Invalid product ID: 00010".equals(zeroPadded.getResponseBody())
+				&& overlong.getStatus().value() == 400 ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testReactive_RateLimitedWithRetryAfter() throws Exception {
+		// One client's second request is answered 429 with Retry-After; invalid IDs are rejected before the limit
+		String limited = "limited-" + clients.incrementAndGet();
+		EntityExchangeResult<String> invalid = exchange(HttpMethod.GET, "/products/" + "9".repeat(40), limited);
+		EntityExchangeResult<String> first = exchange(HttpMethod.GET, "/products/10", limited);
+		EntityExchangeResult<String> second = exchange(HttpMethod.GET, "/products/10", limited);
+
+		yakshaAssert(currentTest(), invalid.getStatus().value() == 400 && first.getStatus().value() == 200
+				&& second.getStatus().value() == 429 && "1".equals(second.getResponseHeaders().getFirst("Retry-After"))
+				&& "Too many requests, retry later.".equals(second.getResponseBody()) ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testReactive_ServletOnlyRoutesNotExposed() throws Exception {
+		// Async lookups, the catalog export and imports are servlet-only and answer 404 here
+		boolean notExposed = get("/products/10/async").getStatus().value() == 404
+				&& get("/catalog/export").getStatus().value() == 404
+				&& exchange(HttpMethod.POST, "/products/import", "import-" + clients.incrementAndGet()).getStatus()
+						.value() == 404;
+
+		yakshaAssert(currentTest(), notExposed ? "true" : "false", businessTestFile);
+	}
+
+	// A request from a client of its own, so the rate limit never applies
+	private EntityExchangeResult<String> get(String uri) {
+		return exchange(HttpMethod.GET, uri, "client-" + clients.incrementAndGet());
+	}
+
+	private EntityExchangeResult<String> exchange(HttpMethod method, String uri, String clientId) {
+		return client.method(method).uri(uri).header("X-Client", clientId).exchange().expectBody(String.class)
+				.returnResult();
+	}
+}
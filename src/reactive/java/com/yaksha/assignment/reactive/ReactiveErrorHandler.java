@@ -0,0 +1,74 @@
+package com.yaksha.assignment.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.ErrorReporter;
+import com.yaksha.assignment.exception.ErrorResponseCache;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+import com.yaksha.assignment.exception.Retryable;
+import com.yaksha.assignment.metrics.ProductMetrics;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of GlobalExceptionHandler, built from the same parts:
+ * the error code registry picks the status, rejections carry Retry-After,
+ * clients accepting {@code application/problem+json} get problem details and
+ * everyone else the cached plain-text body, with the same Cache-Control.
+ * Handled errors are counted and reported like on the servlet stack.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveErrorHandler {
+
+	private static final MediaType PROBLEM_JSON = MediaType.parseMediaType(ProblemJsonWriter.PROBLEM_JSON);
+
+	private final ErrorResponseCache responses;
+	private final ProblemJsonWriter problems;
+	private final ProductMetrics metrics;
+	private final ErrorReporter reporter;
+
+	public ReactiveErrorHandler(ErrorResponseCache responses, ProblemJsonWriter problems, ProductMetrics metrics,
+			ErrorReporter reporter) {
+		this.responses = responses;
+		this.problems = problems;
+		this.metrics = metrics;
+		this.reporter = reporter;
+	}
+
+	// Answers the business and rejection exceptions GlobalExceptionHandler answers; anything else is propagated
+	public Mono<ServerResponse> handle(ServerRequest request, Throwable ex) {
+		if (!(ex instanceof RuntimeException failure) || !isHandled(failure)) {
+			return Mono.error(ex);
+		}
+		ErrorCode errorCode = ErrorCode.forException(failure.getClass());
+		metrics.handled(errorCode);
+		reporter.report(failure, errorCode);
+		ServerResponse.BodyBuilder response = ServerResponse.status(errorCode.status());
+		if (failure instanceof Retryable retryable) {
+			response.header(HttpHeaders.RETRY_AFTER, retryable.getRetryAfter());
+		}
+		if (problems.accepts(request.headers().firstHeader(HttpHeaders.ACCEPT))) {
+			String cacheControl = responses.cacheControlFor(errorCode.status());
+			if (cacheControl != null) {
+				response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+			}
+			return response.contentType(PROBLEM_JSON)
+					.bodyValue(problems.toBytes(errorCode, failure.getMessage(), request.path()));
+		}
+		ResponseEntity<byte[]> cached = responses.get(failure, errorCode.status());
+		return response.headers(headers -> headers.addAll(cached.getHeaders())).bodyValue(cached.getBody());
+	}
+
+	// Registered in ErrorCode, so it has a handler on the servlet stack too
+	private static boolean isHandled(RuntimeException ex) {
+		return ErrorCode.forException(ex.getClass()).exceptionType().isInstance(ex);
+	}
+}
@@ -0,0 +1,41 @@
+package com.yaksha.assignment.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.MessageTemplate;
+import com.yaksha.assignment.validation.ProductIdValidator;
+
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of ProductIdValidationFilter for GET /products/{id}: IDs that break the product.id.* rules get
+// the same 400 before load shedding and the lookup
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveIdValidation implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+	private final ProductIdValidator validator;
+	private final ExceptionFactory exceptions;
+	private final ReactiveErrorHandler errors;
+
+	public ReactiveIdValidation(ProductIdValidator validator, ExceptionFactory exceptions,
+			ReactiveErrorHandler errors) {
+		this.validator = validator;
+		this.exceptions = exceptions;
+		this.errors = errors;
+	}
+
+	@Override
+	public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+		String id = request.pathVariable("id");
+		if (validator.isValid(id)) {
+			return next.handle(request);
+		}
+		return errors.handle(request, exceptions.validation(MessageTemplate.INVALID_ID.format(id)));
+	}
+}
@@ -0,0 +1,55 @@
+package com.yaksha.assignment.reactive;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.yaksha.assignment.ratelimit.LoadShedder;
+
+import reactor.core.publisher.Mono;
+
+// Per-client rate limit (429) and adaptive concurrency limit (503) for the reactive routes, through the LoadShedder
+// the servlet interceptor uses; the permit is returned when the response completes
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoadShedding implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+	private final LoadShedder shedding;
+	private final ReactiveErrorHandler errors;
+
+	public ReactiveLoadShedding(LoadShedder shedding, ReactiveErrorHandler errors) {
+		this.shedding = shedding;
+		this.errors = errors;
+	}
+
+	@Override
+	public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+		boolean acquired;
+		try {
+			acquired = shedding.admit(clientOf(request));
+		} catch (RuntimeException rejected) {
+			return errors.handle(request, rejected);
+		}
+		if (!acquired) {
+			return next.handle(request);
+		}
+		long startedAt = System.nanoTime();
+		return next.handle(request).doFinally(signal -> shedding.release(startedAt));
+	}
+
+	private String clientOf(ServerRequest request) {
+		String clientHeader = shedding.getClientHeader();
+		if (!clientHeader.isEmpty()) {
+			String client = request.headers().firstHeader(clientHeader);
+			if (client != null) {
+				return client;
+			}
+		}
+		return request.remoteAddress().map(InetSocketAddress::getHostString).orElse("");
+	}
+}
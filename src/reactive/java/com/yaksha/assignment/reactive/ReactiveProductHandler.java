@@ -0,0 +1,118 @@
+package com.yaksha.assignment.reactive;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.yaksha.assignment.controller.ProductBatchItem;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.service.ProductLookupResult;
+import com.yaksha.assignment.service.ProductLookupResult.Found;
+import com.yaksha.assignment.service.ProductService;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Handlers for the reactive routes. A lookup can block, waiting for another
+ * request's load of the same ID (SingleFlight), so lookups run on the
+ * bounded elastic scheduler rather than the event loop, with the same
+ * deadline as {@code GET /products/{id}/async}. Found products carry the
+ * same ETag, Last-Modified and Cache-Control as on the servlet stack.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductHandler {
+
+	private static final ParameterizedTypeReference<List<String>> ID_LIST = new ParameterizedTypeReference<>() {
+	};
+
+	private final ProductService products;
+	private final ExceptionFactory exceptions;
+	private final ReactiveErrorHandler errors;
+	private final ProductMetrics metrics;
+	private final int maxBatchSize;
+	private final Duration deadline;
+	private final CacheControl productCacheControl;
+
+	public ReactiveProductHandler(ProductService products, ExceptionFactory exceptions, ReactiveErrorHandler errors,
+			ProductMetrics metrics, @Value("${product.batch.max-size:100}") int maxBatchSize,
+			@Value("${product.lookup.async.deadline:2s}") Duration deadline,
+			@Value("${product.http.max-age:60s}") Duration maxAge) {
+		this.products = products;
+		this.exceptions = exceptions;
+		this.errors = errors;
+		this.metrics = metrics;
+		this.maxBatchSize = maxBatchSize;
+		this.deadline = deadline;
+		this.productCacheControl = CacheControl.maxAge(maxAge).cachePublic();
+	}
+
+	public Mono<ServerResponse> getProduct(ServerRequest request) {
+		String id = request.pathVariable("id");
+		return Mono.fromCallable(() -> lookup(id))
+				.subscribeOn(Schedulers.boundedElastic())
+				.timeout(deadline, Mono.error(ExceptionFactory.DEADLINE_EXCEEDED))
+				.flatMap(result -> result instanceof Found found ? toFoundResponse(request, found)
+						: Mono.error(products.toException(result)))
+				.onErrorResume(ex -> errors.handle(request, ex));
+	}
+
+	public Mono<ServerResponse> getProducts(ServerRequest request) {
+		return request.bodyToMono(ID_LIST)
+				.publishOn(Schedulers.boundedElastic())
+				.map(this::lookupAll)
+				.timeout(deadline, Mono.error(ExceptionFactory.DEADLINE_EXCEEDED))
+				.flatMap(items -> ServerResponse.ok().bodyValue(items))
+				.onErrorResume(ex -> errors.handle(request, ex));
+	}
+
+	private ProductLookupResult lookup(String id) {
+		long start = System.nanoTime();
+		ProductLookupResult result = products.lookup(id);
+		metrics.recordLookup(result, System.nanoTime() - start);
+		return result;
+	}
+
+	// Same validators as ProductController; a matching conditional GET is answered 304 without a body
+	private Mono<ServerResponse> toFoundResponse(ServerRequest request, Found found) {
+		String etag = found.etag();
+		long lastModified = found.product().getLastModified();
+		boolean notModified = isNotModified(request, etag, lastModified);
+		ServerResponse.BodyBuilder response = ServerResponse.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+				.eTag(etag).lastModified(Instant.ofEpochMilli(lastModified)).cacheControl(productCacheControl);
+		return notModified ? response.build() : response.bodyValue(found.body());
+	}
+
+	// If-None-Match takes precedence over If-Modified-Since, as in ServletWebRequest.checkNotModified
+	private static boolean isNotModified(ServerRequest request, String etag, long lastModified) {
+		HttpHeaders headers = request.headers().asHttpHeaders();
+		List<String> ifNoneMatch = headers.getIfNoneMatch();
+		if (!ifNoneMatch.isEmpty()) {
+			return ifNoneMatch.contains("*") || ifNoneMatch.contains(etag) || ifNoneMatch.contains("W/" + etag);
+		}
+		long ifModifiedSince = headers.getIfModifiedSince();
+		return ifModifiedSince != -1 && lastModified / 1000 * 1000 <= ifModifiedSince;
+	}
+
+	private List<ProductBatchItem> lookupAll(List<String> ids) {
+		if (ids.size() > maxBatchSize) {
+			throw exceptions.validation("Batch size " + ids.size() + " exceeds the limit of " + maxBatchSize + ".");
+		}
+		long start = System.nanoTime();
+		ProductLookupResult[] results = products.lookupAll(ids);
+		metrics.recordBatch(results, System.nanoTime() - start);
+		return ProductBatchItem.of(ids, results);
+	}
+}
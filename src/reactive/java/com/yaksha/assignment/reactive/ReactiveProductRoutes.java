@@ -0,0 +1,39 @@
+package com.yaksha.assignment.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Non-blocking edition of the product API, active when the application is
+ * started with {@code spring.main.web-application-type=reactive} (build with
+ * {@code -Preactive}). Serves the same contract as ProductController, with
+ * the same ID validation ahead of the same rate limit and load shedding.
+ * <p>
+ * Only {@code GET /products/{id}} and {@code POST /products/batch} are
+ * routed. {@code GET /products/{id}/async}, {@code GET /catalog/export} and
+ * {@code POST /products/import} are servlet-only: their controllers and
+ * GlobalExceptionHandler are conditional on a servlet application, so on
+ * this stack those paths answer 404.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductRoutes {
+
+	@Bean
+	public RouterFunction<ServerResponse> productRoutes(ReactiveProductHandler handler,
+			ReactiveIdValidation idValidation, ReactiveLoadShedding loadShedding) {
+		// the filter added last runs first: ID validation, then load shedding, as with the servlet filter chain
+		RouterFunction<ServerResponse> lookup = RouterFunctions.route(GET("/products/{id}"), handler::getProduct)
+				.filter(loadShedding).filter(idValidation);
+		RouterFunction<ServerResponse> batch = RouterFunctions.route(POST("/products/batch"), handler::getProducts)
+				.filter(loadShedding);
+		return lookup.and(batch);
+	}
+}
@@ -0,0 +1,88 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.asyncProductLookup;
+import static com.yaksha.assignment.functional.ProductWebFixture.await;
+import static com.yaksha.assignment.functional.ProductWebFixture.loadShedding;
+import static com.yaksha.assignment.functional.ProductWebFixture.performAsync;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.functional.ProductWebFixture.ProductWeb;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.AsyncProductLookup;
+
+public class AsyncProductControllerTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	// built once per class and shared by tests running in parallel
+	private static MockMvc mockMvc;
+	private static AsyncProductLookup asyncLookups;
+
+	@BeforeAll
+	public static void setUp() {
+		ProductWeb web = fixture.web(new ProductRepository(1000));
+		asyncLookups = asyncProductLookup(web.products);
+		mockMvc = web.mockMvc("exceptions", asyncLookups, loadShedding());
+	}
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		asyncLookups.shutdown();
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testGetProductByIdAsync_SameResponsesAsSync() throws Exception {
+		// The async variant answers found, missing, malformed and failing IDs exactly like GET /products/{id}
+		boolean same = true;
+		for (String id : List.of("10", "987654321", "12ab", "generic")) {
+			MockHttpServletResponse sync = mockMvc.perform(get("/products/" + id)).andReturn().getResponse();
+			MockHttpServletResponse async = performAsync(mockMvc, get("/products/" + id + "/async"));
+			same &= async.getStatus() == sync.getStatus()
+					&& async.getContentAsString().equals(sync.getContentAsString())
+					&& String.valueOf(async.getHeader("Cache-Control")).equals(String.valueOf(sync.getHeader("Cache-Control")));
+		}
+
+		yakshaAssert(currentTest(), same ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testGetProductByIdAsync_DeadlineExceeded() throws Exception {
+		// A lookup slower than the deadline is answered 504 instead of holding the request
+		ProductRepository slowRepository = new ProductRepository(1000) {
+			@Override
+			public Product findById(long id) {
+				await(new CountDownLatch(1), 500);
+				return super.findById(id);
+			}
+		};
+		ProductWeb web = fixture.web(slowRepository);
+		AsyncProductLookup lookups = new AsyncProductLookup(web.products, 1, 1, Duration.ofMillis(50));
+		try {
+			MockMvc slowMockMvc = web.mockMvc("exceptions", lookups, null);
+
+			MockHttpServletResponse response = performAsync(slowMockMvc, get("/products/10/async"));
+
+			yakshaAssert(currentTest(), response.getStatus() == 504
+					&& response.getContentAsString().equals("Product lookup deadline exceeded.")
+					&& lookups.timedOutCount() == 1 ? "true" : "false", businessTestFile);
+		} finally {
+			lookups.shutdown();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import com.yaksha.assignment.utils.CheckPlan;
+import com.yaksha.assignment.utils.JavaParserUtils;
+
+public class CheckPlanTest {
+
+	@AfterAll
+	public static void afterAll() {
+		testReport();
+	}
+
+	@Test
+	// printedBy swaps the global System.out
+	@ResourceLock(Resources.SYSTEM_OUT)
+	public void testCheckPlan_SameOutcomesAsPerMethodChecks() throws Exception {
+		// One CheckPlan pass gives the same pass/fail and prints the same errors as the JavaParserUtils calls
+		String controller = "src/main/java/com/yaksha/assignment/controller/ProductController.java";
+		List<Boolean> perMethod = new ArrayList<>();
+		List<String> perMethodErrors = printedBy(() -> {
+			perMethod.add(JavaParserUtils.checkClassAnnotation(controller, "RestController"));
+			perMethod.add(JavaParserUtils.checkClassAnnotation(controller, "Service"));
+			perMethod.add(JavaParserUtils.checkMethodAnnotation(controller, "getProduct", "GetMapping"));
+			perMethod.add(JavaParserUtils.checkMethodAnnotation(controller, "getProducts", "GetMapping"));
+			perMethod.add(JavaParserUtils.checkMethodParameterAnnotation(controller, "getProduct", "id", "PathVariable"));
+			perMethod.add(JavaParserUtils.checkMethodParameterAnnotation(controller, "getProducts", "ids", "PathVariable"));
+			perMethod.add(JavaParserUtils.checkMethodReturnType(controller, "getProduct", "ResponseEntity<?>"));
+			perMethod.add(JavaParserUtils.checkMethodReturnType(controller, "getProducts", "String"));
+			perMethod.add(JavaParserUtils.checkStatusKeywordsInMethod(controller, "getProduct", List.of("return")));
+			perMethod.add(JavaParserUtils.checkStatusKeywordsInMethod(controller, "getProducts",
+					List.of("return", "HttpStatus.I_AM_A_TEAPOT")));
+			perMethod.add(JavaParserUtils.checkMethodReturnType(controller, "deleteProduct", "void"));
+		});
+		CheckPlan plan = CheckPlan.forFile(controller).classAnnotation("RestController").classAnnotation("Service")
+				.methodAnnotation("getProduct", "GetMapping").methodAnnotation("getProducts", "GetMapping")
+				.methodParameterAnnotation("getProduct", "id", "PathVariable")
+				.methodParameterAnnotation("getProducts", "ids", "PathVariable")
+				.methodReturnType("getProduct", "ResponseEntity<?>").methodReturnType("getProducts", "String")
+				.statusKeywords("getProduct", List.of("return"))
+				.statusKeywords("getProducts", List.of("return", "HttpStatus.I_AM_A_TEAPOT"))
+				// a missing method fails with the message every per-method check prints for it
+				.methodPresent("deleteProduct");
+		CheckPlan.Result[] results = new CheckPlan.Result[1];
+		List<String> planErrors = printedBy(() -> results[0] = plan.run());
+
+		boolean sameOutcomes = true;
+		for (int i = 0; i < perMethod.size(); i++) {
+			sameOutcomes &= results[0].passed(i) == perMethod.get(i);
+		}
+		yakshaAssert(currentTest(), sameOutcomes && perMethod.equals(List.of(true, false, true, false, true, false,
+				true, false, true, false, false)) && perMethodErrors.size() == 6
+				&& new HashSet<>(planErrors).equals(new HashSet<>(perMethodErrors))
+				&& results[0].failures().equals(planErrors) ? "true" : "false", businessTestFile);
+	}
+
+	// Lines the action prints to System.out from this thread; other threads keep printing to the console
+	private static List<String> printedBy(Action action) throws Exception {
+		PrintStream console = System.out;
+		Thread owner = Thread.currentThread();
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+				if (Thread.currentThread() == owner) {
+					captured.write(b);
+				} else {
+					console.write(b);
+				}
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				if (Thread.currentThread() == owner) {
+					captured.write(b, off, len);
+				} else {
+					console.write(b, off, len);
+				}
+			}
+		}, true, StandardCharsets.UTF_8));
+		try {
+			action.run();
+		} finally {
+			System.setOut(console);
+		}
+		return captured.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+
+	private interface Action {
+
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,96 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.yaksha.assignment.exception.ErrorCode;
+import com.yaksha.assignment.exception.ErrorReporter;
+import com.yaksha.assignment.exception.ErrorResponseCache;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.exception.MessageTemplate;
+import com.yaksha.assignment.exception.ResourceNotFoundException;
+import com.yaksha.assignment.exception.StoreUnavailableException;
+
+public class ExceptionHandlingTest {
+
+	@AfterAll
+	public static void afterAll() {
+		testReport();
+	}
+
+	@Test
+	public void testErrorCode_MostSpecificRegisteredCode() throws Exception {
+		// Every registered type maps to its own code, a subclass to its own entry, anything else to GENERIC_ERROR
+		boolean mapped = true;
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			mapped &= ErrorCode.forException(errorCode.exceptionType()) == errorCode;
+		}
+
+		yakshaAssert(currentTest(), mapped && ErrorCode.forException(IllegalStateException.class) == ErrorCode.GENERIC_ERROR
+				? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testErrorResponseCache_DistinctIdsShareOneEntry() throws Exception {
+		// Messages embedding the requested ID are cached per template, with the ID spliced into each body
+		ErrorResponseCache cache = new ErrorResponseCache(1024, Duration.ofSeconds(10));
+		boolean bodiesMatch = true;
+		for (int id = 0; id < 500; id++) {
+			String message = MessageTemplate.NOT_FOUND.format("x" + id);
+			bodiesMatch &= new String(cache.get(ResourceNotFoundException.class, message, HttpStatus.NOT_FOUND)
+					.getBody(), StandardCharsets.UTF_8).equals(message);
+		}
+
+		yakshaAssert(currentTest(), bodiesMatch && cache.size() == 1 ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testErrorReporter_RepeatsAreCountedNotRelogged() throws Exception {
+		// A storm of one failure is logged once, then as a single summary with the repeat count
+		ErrorReporter reporter = new ErrorReporter(true, 1024, Duration.ofMinutes(1), 0.0, 1024);
+		GenericException failure = new ExceptionFactory(true, false, reporter).generic();
+		for (int i = 0; i < 500; i++) {
+			reporter.report(failure, ErrorCode.GENERIC_ERROR);
+		}
+		reporter.shutdown();
+
+		yakshaAssert(currentTest(), reporter.droppedCount() == 0 && reporter.suppressedCount() == 499
+				&& reporter.recordCount() == 2 ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testErrorReporter_StacklessExceptionsKeepTheirSites() throws Exception {
+		// Lightweight exceptions from different call sites, and preallocated ones with different messages, are logged
+		// apart; repeats from one site are still folded into a summary. A 404 only gets a site (a stack walk) when the
+		// reporter would queue it, which needs DEBUG
+		ErrorReporter reporter = new ErrorReporter(true, 1024, Duration.ofMinutes(1), 0.0, 1024);
+		ExceptionFactory exceptions = new ExceptionFactory(true, false, reporter);
+		ResourceNotFoundException notFound = exceptions.notFound(MessageTemplate.NOT_FOUND.format("7"));
+		for (int i = 0; i < 3; i++) {
+			reporter.report(exceptions.generic("Catalog unavailable."), ErrorCode.GENERIC_ERROR);
+		}
+		reporter.report(exceptions.generic("Catalog unavailable."), ErrorCode.GENERIC_ERROR);
+		reporter.report(new StoreUnavailableException("Product store unavailable, retry later.", 10),
+				ErrorCode.STORE_UNAVAILABLE);
+		reporter.report(new StoreUnavailableException("Product store busy, retry later.", 1),
+				ErrorCode.STORE_UNAVAILABLE);
+		reporter.shutdown();
+
+		// four first occurrences, plus the summary of the loop's two repeats
+		yakshaAssert(currentTest(), reporter.suppressedCount() == 2 && reporter.recordCount() == 5
+				&& exceptions.generic("Catalog unavailable.").getStackTrace().length == 0
+				&& (notFound.getThrowSite() != null) == reporter.willReport(ErrorCode.RESOURCE_NOT_FOUND) ? "true"
+						: "false",
+				businessTestFile);
+	}
+}
@@ -0,0 +1,89 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.asyncProductLookup;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.yaksha.assignment.ratelimit.AdaptiveConcurrencyLimiter;
+import com.yaksha.assignment.ratelimit.ClientRateLimiter;
+import com.yaksha.assignment.ratelimit.LoadShedder;
+import com.yaksha.assignment.ratelimit.LoadSheddingInterceptor;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.AsyncProductLookup;
+
+public class LoadSheddingTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	private static AsyncProductLookup asyncLookups;
+
+	@BeforeAll
+	public static void setUp() {
+		asyncLookups = asyncProductLookup(fixture.web(new ProductRepository(1000)).products);
+	}
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		asyncLookups.shutdown();
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testLoadShedding_RateLimitedWithRetryAfter() throws Exception {
+		// A client over its rate gets 429 with Retry-After; a new client is turned away while the client map is full
+		ClientRateLimiter rateLimiter = new ClientRateLimiter(true, 1, 1, 1);
+		MockMvc limited = sheddingMockMvc(new LoadShedder(rateLimiter,
+				new AdaptiveConcurrencyLimiter(false, 20, 1000, Duration.ofMillis(100)), "X-Client",
+				Duration.ofSeconds(3), Duration.ofSeconds(1)));
+
+		int first = limited.perform(get("/products/10").header("X-Client", "a")).andReturn().getResponse().getStatus();
+		MockHttpServletResponse second = limited.perform(get("/products/10").header("X-Client", "a")).andReturn()
+				.getResponse();
+		int newClient = limited.perform(get("/products/10").header("X-Client", "b")).andReturn().getResponse()
+				.getStatus();
+
+		yakshaAssert(currentTest(), first == 200 && second.getStatus() == 429
+				&& "3".equals(second.getHeader("Retry-After"))
+				&& second.getContentAsString().equals("Too many requests, retry later.") && newClient == 429
+				&& rateLimiter.trackedClients() == 1 && rateLimiter.rejectedFullCount() == 1 ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testLoadShedding_OverloadedWithRetryAfter() throws Exception {
+		// Requests over the concurrency limit get 503 with Retry-After while the admitted one is in flight
+		MockMvc limited = sheddingMockMvc(new LoadShedder(new ClientRateLimiter(false, 1000, 2000, 100),
+				new AdaptiveConcurrencyLimiter(true, 1, 1, Duration.ofMillis(100)), "", Duration.ofSeconds(1),
+				Duration.ofSeconds(2)));
+
+		// an async request keeps its permit until its async dispatch completes
+		MvcResult inFlight = limited.perform(get("/products/10/async")).andReturn();
+		MockHttpServletResponse shed = limited.perform(get("/products/11")).andReturn().getResponse();
+		inFlight.getAsyncResult(10_000);
+		limited.perform(asyncDispatch(inFlight));
+		int afterRelease = limited.perform(get("/products/11")).andReturn().getResponse().getStatus();
+
+		yakshaAssert(currentTest(), shed.getStatus() == 503 && "2".equals(shed.getHeader("Retry-After"))
+				&& shed.getContentAsString().equals("Service overloaded, retry later.") && afterRelease == 200
+				? "true" : "false", businessTestFile);
+	}
+
+	// Sync and async product endpoints behind the interceptor for the given limits
+	private static MockMvc sheddingMockMvc(LoadShedder shedder) {
+		return fixture.web(new ProductRepository(1000)).mockMvc("exceptions", asyncLookups,
+				new LoadSheddingInterceptor(shedder));
+	}
+}
@@ -0,0 +1,119 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.boot.web.servlet.filter.OrderedCharacterEncodingFilter;
+import org.springframework.boot.web.servlet.filter.OrderedFormContentFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.yaksha.assignment.ratelimit.ClientRateLimiter;
+import com.yaksha.assignment.ratelimit.LoadShedder;
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+import com.yaksha.assignment.validation.IdRules;
+import com.yaksha.assignment.validation.ProductIdValidationFilter;
+import com.yaksha.assignment.validation.ProductIdValidator;
+
+/**
+ * Starts the whole application on an in-memory H2 database and a mock servlet
+ * environment, to check the wiring ProductWebFixture builds by hand for the
+ * standalone tests: {@code @Value} binding, servlet filter order and the
+ * load-shedding path mappings in WebConfig.
+ * <p>
+ * The rate limit is cut to one request per client so an interceptor that
+ * wrongly covered {@code /products/import} would reject the second import.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+		"spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1", "spring.datasource.username=sa",
+		"spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop", "product.store.source=seed",
+		// actuator endpoints are not under test; the loopback management port is not opened
+		"management.server.port=-1",
+		"product.rate-limit.requests-per-second=0.001", "product.rate-limit.burst=1" })
+@AutoConfigureMockMvc
+public class ProductApplicationSmokeTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private Environment environment;
+
+	@AfterAll
+	public static void afterAll() {
+		testReport();
+	}
+
+	@Test
+	public void testApplication_PropertiesBoundToBeans() throws Exception {
+		// Constructor @Value parameters pick up the configured properties, not their inline defaults
+		IdRules rules = context.getBean(ProductIdValidator.class).getRules();
+		StoreCircuitBreaker.Settings breaker = context.getBean(StoreCircuitBreaker.class).getSettings();
+		ClientRateLimiter.Settings rateLimit = context.getBean(ClientRateLimiter.class).getSettings();
+		LoadShedder shedder = context.getBean(LoadShedder.class);
+
+		yakshaAssert(currentTest(), rules.getAllowedChars().equals(environment.getProperty("product.id.allowed-chars"))
+				&& rules.getMaxLength() == environment.getProperty("product.id.max-length", Integer.class)
+				&& breaker.getMinimumCalls() == environment.getProperty("product.store.breaker.minimum-calls",
+						Integer.class)
+				&& breaker.getOpenDurationMillis() == environment
+						.getProperty("product.store.breaker.open-duration", Duration.class).toMillis()
+				&& rateLimit.getRequestsPerSecond() == 0.001 && rateLimit.getBurst() == 1
+				&& shedder.getRateLimitRetryAfterSeconds() == environment
+						.getProperty("product.rate-limit.retry-after", Duration.class).toSeconds() ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testApplication_IdFilterOrder() throws Exception {
+		// The ID filter runs after request decoding and before the form and request-context filters
+		List<Class<?>> filters = new ServletContextInitializerBeans(context).stream()
+				.filter(FilterRegistrationBean.class::isInstance)
+				.<Class<?>>map(registration -> ((FilterRegistrationBean<?>) registration).getFilter().getClass())
+				.toList();
+		int encoding = filters.indexOf(OrderedCharacterEncodingFilter.class);
+		int idValidation = filters.indexOf(ProductIdValidationFilter.class);
+		int formContent = filters.indexOf(OrderedFormContentFilter.class);
+		MockHttpServletResponse rejected = mockMvc.perform(get("/products/" + "9".repeat(40))).andReturn()
+				.getResponse();
+
+		yakshaAssert(currentTest(), encoding >= 0 && encoding < idValidation && idValidation < formContent
+				&& rejected.getStatus() == 400 ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testApplication_ImportNotRateLimited() throws Exception {
+		// WebConfig puts the interceptor on /products/** but leaves /products/import out
+		MockHttpServletResponse firstLookup = mockMvc.perform(get("/products/10")).andReturn().getResponse();
+		MockHttpServletResponse secondLookup = mockMvc.perform(get("/products/10")).andReturn().getResponse();
+		boolean importsAdmitted = true;
+		for (int i = 0; i < 3; i++) {
+			importsAdmitted &= mockMvc.perform(post("/products/import").contentType("application/x-ndjson").content(""))
+					.andReturn().getResponse().getStatus() == 200;
+		}
+
+		yakshaAssert(currentTest(), firstLookup.getStatus() == 200 && secondLookup.getStatus() == 429
+				&& importsAdmitted ? "true" : "false", businessTestFile);
+	}
+}
@@ -0,0 +1,73 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.loadShedding;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.yaksha.assignment.functional.ProductWebFixture.ProductWeb;
+import com.yaksha.assignment.repository.ProductRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProductBatchTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	// built once per class and shared by tests running in parallel
+	private static MockMvc mockMvc;
+
+	@BeforeAll
+	public static void setUp() {
+		mockMvc = fixture.web(new ProductRepository(1000)).mockMvc("exceptions", null,
+				loadShedding());
+	}
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testGetProducts_BatchWithPerItemStatus() throws Exception {
+		// A batch mixes found, missing and invalid IDs without failing as a whole
+		RequestBuilder requestBuilder = post("/products/batch").contentType(MediaType.APPLICATION_JSON)
+				.content("[\"10\", \"987654321\", \"12ab\", \"generic\"]").accept(MediaType.APPLICATION_JSON);
+
+		String responseContent = mockMvc.perform(requestBuilder).andReturn().getResponse().getContentAsString();
+
+		yakshaAssert(currentTest(), responseContent.equals("[{\"id\":\"10\",\"status\":200,\"body\":\"Product with ID 10\"},"
+				+ "{\"id\":\"987654321\",\"status\":404,\"body\":\"Product with ID 987654321 not found.\"},"
+				+ "{\"id\":\"12ab\",\"status\":400,\"body\":\"Invalid product ID: 12ab\"},"
+				+ "{\"id\":\"generic\",\"status\":500,\"body\":\"A generic error occurred.\"}]") ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProducts_BatchTimedAndCountedPerOutcome() throws Exception {
+		// A batch records one batch timing and counts each of its IDs under its outcome
+		ProductWeb web = fixture.web(new ProductRepository(1000));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		web.metrics.bindTo(registry);
+		web.mockMvc("exceptions", null, null).perform(post("/products/batch").contentType(MediaType.APPLICATION_JSON)
+				.content("[\"10\", \"11\", \"987654321\", \"12ab\", \"generic\"]")).andReturn();
+
+		yakshaAssert(currentTest(), registry.get("product.lookup.batch").timer().count() == 1
+				&& batchItemCount(registry, "found") == 2 && batchItemCount(registry, "not_found") == 1
+				&& batchItemCount(registry, "invalid") == 1 && batchItemCount(registry, "error") == 1 ? "true"
+						: "false", businessTestFile);
+	}
+
+	private static double batchItemCount(SimpleMeterRegistry registry, String outcome) {
+		return registry.get("product.lookup.batch.items").tag("outcome", outcome).counter().count();
+	}
+}
@@ -0,0 +1,55 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.service.ProductCache;
+
+public class ProductCacheTest {
+
+	@AfterAll
+	public static void afterAll() {
+		testReport();
+	}
+
+	@Test
+	public void testProductCache_PrimitiveKeyedSegments() throws Exception {
+		// Entries survive removals of their neighbours, and the size bound evicts without losing recent entries
+		ProductCache cache = new ProductCache(true, 16 * 8, Duration.ofMinutes(10), 16, Duration.ofSeconds(30));
+		AtomicInteger loads = new AtomicInteger();
+		LongFunction<Product> loader = id -> {
+			loads.incrementAndGet();
+			return new Product(id, "Product " + id, 100 * id, 1, 0);
+		};
+		for (long id = 1; id <= 100; id++) {
+			cache.get(id, loader);
+		}
+		for (long id = 2; id <= 100; id += 2) {
+			cache.invalidate(id);
+		}
+		loads.set(0);
+		boolean oddsCached = true;
+		for (long id = 1; id <= 100; id += 2) {
+			oddsCached &= cache.get(id, loader).getId() == id;
+		}
+		boolean oddsWithoutLoads = loads.get() == 0;
+		for (long id = 101; id <= 1000; id++) {
+			cache.get(id, loader);
+		}
+		loads.set(0);
+		cache.get(1000, loader);
+
+		yakshaAssert(currentTest(), oddsCached && oddsWithoutLoads && loads.get() == 0 && cache.size() <= 16 * 8
+				&& cache.evictionCount() == 1000 - 50 - cache.size() ? "true" : "false", businessTestFile);
+	}
+}
@@ -1,29 +1,43 @@
 package com.yaksha.assignment.functional;
 
+import static com.yaksha.assignment.functional.ProductWebFixture.loadShedding;
 import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
 import static com.yaksha.assignment.utils.TestUtils.currentTest;
 import static com.yaksha.assignment.utils.TestUtils.testReport;
 import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
+import java.util.List;
+
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.RequestBuilder;
 
-import com.yaksha.assignment.controller.ProductController;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+import com.yaksha.assignment.functional.ProductWebFixture.ProductWeb;
+import com.yaksha.assignment.repository.ProductRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
-@WebMvcTest(ProductController.class)
 public class ProductControllerTest {
 
-	@Autowired
-	private MockMvc mockMvc;
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	// built once per class and shared by tests running in parallel
+	private static MockMvc mockMvc;
+
+	@BeforeAll
+	public static void setUp() {
+		mockMvc = fixture.web(new ProductRepository(1000)).mockMvc("exceptions", null,
+				loadShedding());
+	}
 
 	@AfterAll
-	public static void afterAll() {
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
 		testReport();
 	}
 
@@ -80,4 +94,89 @@ public class ProductControllerTest {
 		// Assert that the response content matches the expected success response
 		yakshaAssert(currentTest(), responseContent.equals("Product with ID 10") ? "true" : "false", businessTestFile);
 	}
+
+	@Test
+	public void testGetProductById_UnknownNumericId() throws Exception {
+		// A well-formed ID that is not in the catalog misses after the index probe
+		RequestBuilder requestBuilder = get("/products/987654321").contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON);
+
+		MockHttpServletResponse response = mockMvc.perform(requestBuilder).andReturn().getResponse();
+
+		yakshaAssert(currentTest(), response.getStatus() == 404
+				&& response.getContentAsString().equals("Product with ID 987654321 not found.") ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_NonNumericId() throws Exception {
+		// Non-numeric IDs are rejected before any lookup
+		RequestBuilder requestBuilder = get("/products/12ab").contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON);
+
+		MockHttpServletResponse response = mockMvc.perform(requestBuilder).andReturn().getResponse();
+
+		yakshaAssert(currentTest(), response.getStatus() == 400
+				&& response.getContentAsString().equals("Invalid product ID: 12ab") ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_ProblemDetails() throws Exception {
+		// Clients that accept application/problem+json get a structured body with a stable error code
+		RequestBuilder requestBuilder = get("/products/notfound").accept("application/problem+json");
+
+		MockHttpServletResponse response = mockMvc.perform(requestBuilder).andReturn().getResponse();
+
+		yakshaAssert(currentTest(),
+				response.getStatus() == 404 && response.getContentType().equals("application/problem+json")
+				&& response.getContentAsString().equals("{\"type\":\"about:blank\",\"title\":\"Resource not found\","
+						+ "\"status\":404,\"code\":1001,\"detail\":\"Product with ID notfound not found.\","
+						+ "\"instance\":\"/products/notfound\"}") ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_ProblemDetailsByQuality() throws Exception {
+		// Accept is negotiated by quality: problem details only when preferred to plain text, never at q=0
+		boolean excluded = isProblemJson("application/problem+json;q=0, text/plain");
+		boolean preferred = isProblemJson("text/plain;q=0.5, application/problem+json");
+		boolean wildcard = isProblemJson("*/*");
+		boolean suffixWildcard = isProblemJson("application/*+json, text/plain;q=0.1");
+
+		yakshaAssert(currentTest(), !excluded && preferred && !wildcard && suffixWildcard ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_OutcomesMode() throws Exception {
+		// product.lookup.mode=outcomes answers errors without throwing, with the same statuses, bodies and metrics
+		ProductWeb web = fixture.web(new ProductRepository(1000));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		web.metrics.bindTo(registry);
+		MockMvc outcomesMockMvc = web.mockMvc("outcomes", null, null);
+
+		boolean same = true;
+		for (String id : List.of("10", "notfound", "987654321", "invalid", "generic")) {
+			MockHttpServletResponse expected = mockMvc.perform(get("/products/" + id)).andReturn().getResponse();
+			MockHttpServletResponse actual = outcomesMockMvc.perform(get("/products/" + id)).andReturn()
+					.getResponse();
+			same &= actual.getStatus() == expected.getStatus()
+					&& actual.getContentAsString().equals(expected.getContentAsString());
+		}
+
+		yakshaAssert(currentTest(), same && handledCount(registry, "ResourceNotFoundException") == 2
+				&& handledCount(registry, "ValidationException") == 1
+				&& handledCount(registry, "GenericException") == 1 ? "true" : "false", businessTestFile);
+	}
+
+	private static boolean isProblemJson(String accept) throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get("/products/notfound").header("Accept", accept))
+				.andReturn().getResponse();
+		return response.getStatus() == 404 && ProblemJsonWriter.PROBLEM_JSON.equals(response.getContentType());
+	}
+
+	private static double handledCount(SimpleMeterRegistry registry, String exception) {
+		return registry.get("product.errors.handled").tag("exception", exception).counter().count();
+	}
 }
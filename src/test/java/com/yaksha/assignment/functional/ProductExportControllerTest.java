@@ -0,0 +1,72 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.performAsync;
+import static com.yaksha.assignment.functional.ProductWebFixture.storeBreaker;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.yaksha.assignment.controller.ProductExportController;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.repository.ProductExportRepository;
+
+public class ProductExportControllerTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testCatalogExport_NdjsonAndCsvFromH2() throws Exception {
+		// The export streams the stored rows in ID order from a database cursor, in either format
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true).build();
+		try {
+			JdbcTemplate jdbc = new JdbcTemplate(database);
+			jdbc.execute("create table product (id bigint primary key, name varchar(255), price_cents bigint not null,"
+					+ " version bigint not null, last_modified bigint not null)");
+			jdbc.update("insert into product values (?, ?, ?, ?, ?)", 2, "Mug, \"large\"", 1250, 3, 1000);
+			jdbc.update("insert into product values (?, ?, ?, ?, ?)", 1, "Pen", 99, 1, 2000);
+			MockMvc exportMockMvc = MockMvcBuilders
+					.standaloneSetup(new ProductExportController(new ProductExportRepository(jdbc, storeBreaker(), 1),
+							new ExceptionFactory(true, false, fixture.errorReporter()), new ProductMetrics(), Duration.ofSeconds(10)))
+					.build();
+
+			MockHttpServletResponse ndjson = performAsync(exportMockMvc, get("/catalog/export"));
+			MockHttpServletResponse csv = performAsync(exportMockMvc, get("/catalog/export").param("format", "csv"));
+
+			yakshaAssert(currentTest(), ndjson.getStatus() == 200
+					&& "application/x-ndjson".equals(ndjson.getContentType())
+					&& ndjson.getContentAsString().equals(
+							"{\"id\":1,\"name\":\"Pen\",\"priceCents\":99,\"version\":1,\"lastModified\":2000}\n"
+									+ "{\"id\":2,\"name\":\"Mug, \\\"large\\\"\",\"priceCents\":1250,\"version\":3,\"lastModified\":1000}\n")
+					&& csv.getStatus() == 200 && csv.getContentType().startsWith("text/csv")
+					&& "attachment; filename=\"products.csv\"".equals(csv.getHeader("Content-Disposition"))
+					&& csv.getContentAsString(StandardCharsets.UTF_8).equals("id,name,priceCents,version,lastModified\n"
+							+ "1,Pen,99,1,2000\n" + "2,\"Mug, \"\"large\"\"\",1250,3,1000\n") ? "true" : "false",
+					businessTestFile);
+		} finally {
+			database.shutdown();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.asyncProductLookup;
+import static com.yaksha.assignment.functional.ProductWebFixture.loadShedding;
+import static com.yaksha.assignment.functional.ProductWebFixture.performAsync;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.yaksha.assignment.functional.ProductWebFixture.ProductWeb;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.AsyncProductLookup;
+
+public class ProductHttpCachingTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	// built once per class and shared by tests running in parallel
+	private static MockMvc mockMvc;
+	private static AsyncProductLookup asyncLookups;
+
+	@BeforeAll
+	public static void setUp() {
+		ProductWeb web = fixture.web(new ProductRepository(1000));
+		asyncLookups = asyncProductLookup(web.products);
+		mockMvc = web.mockMvc("exceptions", asyncLookups, loadShedding());
+	}
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		asyncLookups.shutdown();
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testGetProductById_ConditionalGetNotModified() throws Exception {
+		// A repeat request carrying the ETag of the current version is answered with 304 and no body
+		String etag = mockMvc.perform(get("/products/10")).andReturn().getResponse().getHeader("ETag");
+
+		MockHttpServletResponse response = mockMvc.perform(get("/products/10").header("If-None-Match", etag))
+				.andReturn().getResponse();
+		MockHttpServletResponse async = performAsync(mockMvc,
+				get("/products/10/async").header("If-None-Match", etag));
+
+		yakshaAssert(currentTest(), etag != null && response.getStatus() == 304
+				&& response.getContentAsString().isEmpty()
+				&& "max-age=60, public".equals(response.getHeader("Cache-Control")) && async.getStatus() == 304
+				&& "max-age=60, public".equals(async.getHeader("Cache-Control")) ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_NotFoundIsNegativelyCached() throws Exception {
+		// 404 responses carry a short Cache-Control lifetime so shared caches absorb repeated misses
+		MockHttpServletResponse response = mockMvc.perform(get("/products/987654321")).andReturn().getResponse();
+
+		yakshaAssert(currentTest(), response.getStatus() == 404
+				&& "max-age=10, public".equals(response.getHeader("Cache-Control")) ? "true" : "false",
+				businessTestFile);
+	}
+}
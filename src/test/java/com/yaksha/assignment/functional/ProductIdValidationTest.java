@@ -0,0 +1,75 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.loadShedding;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.ProductLookupResult;
+
+public class ProductIdValidationTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+	// built once per class and shared by tests running in parallel
+	private static MockMvc mockMvc;
+
+	@BeforeAll
+	public static void setUp() {
+		mockMvc = fixture.web(new ProductRepository(1000)).mockMvc("exceptions", null,
+				loadShedding());
+	}
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testGetProductById_OverlongIdRejectedByFilter() throws Exception {
+		// IDs that break the configured rules are answered by the validation filter with the usual 400 body
+		String id = "1234567890123456789012345678901234567890";
+		RequestBuilder requestBuilder = get("/products/" + id).accept(MediaType.APPLICATION_JSON);
+
+		MockHttpServletResponse response = mockMvc.perform(requestBuilder).andReturn().getResponse();
+
+		yakshaAssert(currentTest(), response.getStatus() == 400
+				&& response.getContentAsString().equals("Invalid product ID: " + id) ? "true" : "false",
+				businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_LeadingZerosRejected() throws Exception {
+		// A zero-padded ID is not another URL for the same product: the filter and the service both reject it
+		MockHttpServletResponse response = mockMvc.perform(get("/products/00010")).andReturn().getResponse();
+		ProductLookupResult unfiltered = fixture.web(new ProductRepository(1000)).products
+				.lookup("00010");
+
+		yakshaAssert(currentTest(), response.getStatus() == 400
+				&& response.getContentAsString().equals("Invalid product ID: 00010")
+				&& unfiltered instanceof ProductLookupResult.Invalid ? "true" : "false", businessTestFile);
+	}
+
+	@Test
+	public void testGetProductById_PercentEncodedIdDecodedByFilter() throws Exception {
+		// The filter checks the decoded ID, as the controller sees it: %31%30 is product 10
+		MockHttpServletResponse response = mockMvc.perform(get(URI.create("/products/%31%30"))).andReturn()
+				.getResponse();
+
+		yakshaAssert(currentTest(), response.getStatus() == 200
+				&& response.getContentAsString().equals("Product with ID 10") ? "true" : "false", businessTestFile);
+	}
+}
@@ -0,0 +1,169 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.await;
+import static com.yaksha.assignment.functional.ProductWebFixture.entityManagerFactory;
+import static com.yaksha.assignment.functional.ProductWebFixture.idValidator;
+import static com.yaksha.assignment.functional.ProductWebFixture.storeBreaker;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.ImportSummary;
+import com.yaksha.assignment.service.ImportSummary.LineError;
+import com.yaksha.assignment.service.ProductCache;
+import com.yaksha.assignment.service.ProductImportPipeline;
+import com.yaksha.assignment.service.ProductImportService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+public class ProductImportTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testImportProducts_PerLineErrorsAndCounts() throws Exception {
+		// Invalid lines are listed with their 1002 code while valid ones are stored; a repeated ID keeps its last line
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true).build();
+		LocalContainerEntityManagerFactoryBean entityManagerFactory = entityManagerFactory(database);
+		try {
+			DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+			beans.registerSingleton("entityManagerFactory", entityManagerFactory.getObject());
+			ProductRepository repository = new ProductRepository(0);
+			ProductImportService importer = new ProductImportService(repository,
+					new ProductCache(true, 10000, Duration.ofMinutes(10), 10000, Duration.ofSeconds(30)),
+					beans.getBeanProvider(EntityManagerFactory.class),
+					new JpaTransactionManager(entityManagerFactory.getObject()), storeBreaker(), 50);
+			String body = String.join("\n", "{\"id\":\"5001\",\"name\":\"Lamp\",\"priceCents\":1999}",
+					"{\"id\":\"5002\",\"name\":", "{\"id\":\"12ab\",\"name\":\"Desk\",\"priceCents\":100}",
+					"", "{\"id\":\"5002\",\"priceCents\":100}", "{\"id\":\"5001\",\"name\":\"Lamp XL\",\"priceCents\":2999}");
+
+			MockHttpServletResponse response = fixture.importMockMvc(importer, 2)
+					.perform(post("/products/import").contentType("application/x-ndjson").content(body)).andReturn()
+					.getResponse();
+			ImportSummary summary = new ObjectMapper().readValue(response.getContentAsString(), ImportSummary.class);
+			Product stored = repository.findById(5001);
+
+			yakshaAssert(currentTest(), response.getStatus() == 200 && summary.records() == 5
+					&& summary.accepted() == 2 && summary.rejected() == 3
+					&& summary.errors().stream().map(LineError::line).toList().equals(List.of(2L, 3L, 5L))
+					&& summary.errors().stream().allMatch(error -> error.code() == 1002) && stored != null
+					&& stored.getName().equals("Lamp XL") && stored.getVersion() == 1 ? "true" : "false",
+					businessTestFile);
+		} finally {
+			entityManagerFactory.destroy();
+			database.shutdown();
+		}
+	}
+
+	@Test
+	public void testImportProducts_TooManyConcurrentImports() throws Exception {
+		// An import beyond product.import.max-concurrent is answered 503 with Retry-After instead of queueing
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ProductImportService blockingImporter = new ProductImportService(new ProductRepository(0), null, null, null,
+				null, 50) {
+			@Override
+			public int importBatch(List<Product> batch) {
+				writing.countDown();
+				await(release);
+				return batch.size();
+			}
+		};
+		MockMvc importMockMvc = fixture.importMockMvc(blockingImporter, 1);
+		RequestBuilder request = post("/products/import").contentType("application/x-ndjson")
+				.content("{\"id\":\"5001\",\"name\":\"Lamp\",\"priceCents\":1999}");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<MockHttpServletResponse> first = executor
+					.submit(() -> importMockMvc.perform(request).andReturn().getResponse());
+			await(writing);
+			MockHttpServletResponse rejected = importMockMvc.perform(request).andReturn().getResponse();
+			release.countDown();
+
+			yakshaAssert(currentTest(), rejected.getStatus() == 503
+					&& rejected.getContentAsString().equals("Too many imports in progress.")
+					&& "1".equals(rejected.getHeader("Retry-After"))
+					&& first.get(10, TimeUnit.SECONDS).getStatus() == 200 ? "true" : "false", businessTestFile);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testImportProducts_FailsWhenWriterStops() throws Exception {
+		// A reader blocked on a full queue fails the import once the writer is gone instead of waiting forever
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ProductImportService blockingImporter = new ProductImportService(new ProductRepository(0), null, null, null,
+				null, 1) {
+			@Override
+			public int importBatch(List<Product> batch) {
+				writing.countDown();
+				await(release);
+				return batch.size();
+			}
+		};
+		ProductImportPipeline pipeline = new ProductImportPipeline(blockingImporter, idValidator(), 1, 1, 1, 1000);
+		StringBuilder body = new StringBuilder();
+		for (int id = 5001; id <= 5010; id++) {
+			body.append("{\"id\":\"").append(id).append("\",\"name\":\"Lamp\",\"priceCents\":1999}\n");
+		}
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<ImportSummary> running = executor.submit(() -> pipeline
+					.ingest(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8))));
+			await(writing);
+			// interrupts the writer inside its first batch; the queue stays full behind it
+			pipeline.shutdown();
+
+			Throwable failure = null;
+			try {
+				running.get(10, TimeUnit.SECONDS);
+			} catch (ExecutionException ex) {
+				failure = ex.getCause();
+			}
+
+			yakshaAssert(currentTest(), failure instanceof IllegalStateException ? "true" : "false",
+					businessTestFile);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+}
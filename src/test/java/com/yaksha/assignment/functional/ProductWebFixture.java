@@ -0,0 +1,182 @@
+package com.yaksha.assignment.functional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.test.web.servlet.setup.StandaloneMockMvcBuilder;
+
+import com.yaksha.assignment.controller.AsyncProductController;
+import com.yaksha.assignment.controller.ProductController;
+import com.yaksha.assignment.controller.ProductImportController;
+import com.yaksha.assignment.exception.ErrorReporter;
+import com.yaksha.assignment.exception.ErrorResponseCache;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GlobalExceptionHandler;
+import com.yaksha.assignment.exception.ProblemJsonWriter;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.ratelimit.AdaptiveConcurrencyLimiter;
+import com.yaksha.assignment.ratelimit.ClientRateLimiter;
+import com.yaksha.assignment.ratelimit.LoadShedder;
+import com.yaksha.assignment.ratelimit.LoadSheddingInterceptor;
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.AsyncProductLookup;
+import com.yaksha.assignment.service.ProductCache;
+import com.yaksha.assignment.service.ProductImportPipeline;
+import com.yaksha.assignment.service.ProductImportService;
+import com.yaksha.assignment.service.ProductService;
+import com.yaksha.assignment.service.SingleFlight;
+import com.yaksha.assignment.validation.ProductIdValidationFilter;
+import com.yaksha.assignment.validation.ProductIdValidator;
+
+/**
+ * Standalone setup shared by the functional tests: the web layer wired by
+ * hand with the application.properties defaults. ProductApplicationSmokeTest
+ * checks the real wiring.
+ * <p>
+ * Each test class owns one fixture and shuts it down after the class, so the
+ * error reporters it built do not outlive the class.
+ */
+final class ProductWebFixture {
+
+	private final List<ErrorReporter> reporters = new CopyOnWriteArrayList<>();
+
+	// The product web layer over the given catalog
+	ProductWeb web(ProductRepository repository) {
+		return new ProductWeb(repository, new SingleFlight(true, Duration.ofSeconds(2)));
+	}
+
+	ProductWeb web(ProductRepository repository, SingleFlight singleFlight) {
+		return new ProductWeb(repository, singleFlight);
+	}
+
+	// POST /products/import with the application defaults except the concurrent import limit
+	MockMvc importMockMvc(ProductImportService importer, int maxConcurrent) {
+		ProductMetrics metrics = new ProductMetrics();
+		return MockMvcBuilders
+				.standaloneSetup(new ProductImportController(new ProductImportPipeline(importer,
+						idValidator(), 50, 8, maxConcurrent, 1000)))
+				.setControllerAdvice(new GlobalExceptionHandler(new ErrorResponseCache(1024, Duration.ofSeconds(10)),
+						new ProblemJsonWriter(), metrics, errorReporter()))
+				.build();
+	}
+
+	// Application defaults for handled-exception logging
+	ErrorReporter errorReporter() {
+		ErrorReporter reporter = new ErrorReporter(true, 1024, Duration.ofSeconds(60), 0.01, 1024);
+		reporters.add(reporter);
+		return reporter;
+	}
+
+	void shutdown() throws InterruptedException {
+		for (ErrorReporter reporter : reporters) {
+			reporter.shutdown();
+		}
+	}
+
+	/**
+	 * The product web layer over the catalog and single-flight a test
+	 * supplies.
+	 */
+	final class ProductWeb {
+
+		final ErrorReporter reporter = errorReporter();
+		final ExceptionFactory exceptions = new ExceptionFactory(true, false, reporter);
+		final ErrorResponseCache errorResponses = new ErrorResponseCache(1024, Duration.ofSeconds(10));
+		final ProblemJsonWriter problems = new ProblemJsonWriter();
+		final ProductMetrics metrics = new ProductMetrics();
+		final ProductService products;
+
+		private ProductWeb(ProductRepository repository, SingleFlight singleFlight) {
+			this.products = new ProductService(repository,
+					new ProductCache(true, 10000, Duration.ofMinutes(10), 10000, Duration.ofSeconds(30)),
+					singleFlight, exceptions);
+		}
+
+		// The sync endpoint in the given lookup mode, plus the async one when lookups are given; a null
+		// interceptor leaves load shedding out
+		MockMvc mockMvc(String mode, AsyncProductLookup lookups, LoadSheddingInterceptor interceptor) {
+			List<Object> controllers = new ArrayList<>();
+			controllers.add(new ProductController(products, errorResponses, problems, exceptions, metrics, mode, 100,
+					Duration.ofSeconds(60)));
+			if (lookups != null) {
+				controllers.add(new AsyncProductController(lookups, products, metrics, Duration.ofSeconds(60)));
+			}
+			StandaloneMockMvcBuilder builder = MockMvcBuilders.standaloneSetup(controllers.toArray())
+					.setControllerAdvice(new GlobalExceptionHandler(errorResponses, problems, metrics, reporter))
+					.addFilters(new ProductIdValidationFilter(problems, idValidator()));
+			if (interceptor != null) {
+				builder.addMappedInterceptors(new String[] { "/products/**" }, interceptor);
+			}
+			return builder.build();
+		}
+	}
+
+	// Application defaults for the rate limit and adaptive concurrency limit
+	static LoadSheddingInterceptor loadShedding() {
+		return new LoadSheddingInterceptor(new LoadShedder(new ClientRateLimiter(true, 1000, 2000, 100000),
+				new AdaptiveConcurrencyLimiter(true, 20, 1000, Duration.ofMillis(100)), "", Duration.ofSeconds(1),
+				Duration.ofSeconds(1)));
+	}
+
+	// Application defaults for async lookups
+	static AsyncProductLookup asyncProductLookup(ProductService products) {
+		return new AsyncProductLookup(products, 16, 256, Duration.ofSeconds(2));
+	}
+
+	// Application defaults for product IDs
+	static ProductIdValidator idValidator() {
+		return new ProductIdValidator("0-9A-Za-z", 1, 32, 1, 999999999999999999L, "none");
+	}
+
+	// Application defaults for the store circuit breaker and bulkhead
+	static StoreCircuitBreaker storeBreaker() {
+		return new StoreCircuitBreaker(true, 50, Duration.ofSeconds(1), 20, 100, Duration.ofSeconds(10), 5, 20);
+	}
+
+	// JPA over the given database, with the product table generated from the entity
+	static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+		entityManagerFactory.setDataSource(dataSource);
+		entityManagerFactory.setPackagesToScan("com.yaksha.assignment.entity");
+		HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
+		vendorAdapter.setGenerateDdl(true);
+		entityManagerFactory.setJpaVendorAdapter(vendorAdapter);
+		entityManagerFactory.afterPropertiesSet();
+		return entityManagerFactory;
+	}
+
+	// Runs the request, waits for the async result and returns the response of the async dispatch
+	static MockHttpServletResponse performAsync(MockMvc mvc, RequestBuilder requestBuilder) throws Exception {
+		MvcResult started = mvc.perform(requestBuilder).andReturn();
+		started.getAsyncResult(10_000);
+		return mvc.perform(asyncDispatch(started)).andReturn().getResponse();
+	}
+
+	static void await(CountDownLatch latch, long millis) {
+		try {
+			latch.await(millis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static void await(CountDownLatch latch) {
+		await(latch, 10_000);
+	}
+}
@@ -0,0 +1,148 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.await;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.yaksha.assignment.entity.Product;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.exception.GenericException;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.SingleFlight;
+
+public class SingleFlightTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testSingleFlight_ConcurrentMissesShareOneLoad() throws Exception {
+		// Callers arriving while a load for the same ID is in flight wait for it and rethrow its exception
+		SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(2));
+		GenericException failure = new ExceptionFactory(true, false, fixture.errorReporter()).generic();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		int callers = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<Object>> outcomes = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				outcomes.add(executor.submit(() -> {
+					try {
+						return singleFlight.load(42, id -> {
+							loads.incrementAndGet();
+							await(release);
+							throw failure;
+						});
+					} catch (GenericException ex) {
+						return ex;
+					}
+				}));
+			}
+			// every caller but the leader has joined before the load completes
+			while (singleFlight.coalescedCount() < callers - 1) {
+				Thread.sleep(1);
+			}
+			release.countDown();
+			boolean sameOutcome = true;
+			for (Future<Object> outcome : outcomes) {
+				sameOutcome &= outcome.get(10, TimeUnit.SECONDS) == failure;
+			}
+
+			yakshaAssert(currentTest(), sameOutcome && loads.get() == 1 && singleFlight.inFlightCount() == 0
+					? "true" : "false", businessTestFile);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testSingleFlight_WaitersMappedByExceptionHandler() throws Exception {
+		// Requests coalesced onto one load get the handler's response for its failure, or 504 once their wait runs out
+		GenericException failure = new ExceptionFactory(true, false, fixture.errorReporter()).generic();
+		CountDownLatch releaseFailing = new CountDownLatch(1);
+		CountDownLatch releaseStuck = new CountDownLatch(1);
+		ProductRepository blockingRepository = new ProductRepository(1000) {
+			@Override
+			public Product findById(long id) {
+				if (id == 21) {
+					await(releaseFailing);
+					throw failure;
+				}
+				await(releaseStuck);
+				return super.findById(id);
+			}
+		};
+		SingleFlight singleFlight = new SingleFlight(true, Duration.ofMillis(200));
+		MockMvc coalescingMockMvc = fixture.web(blockingRepository, singleFlight)
+				.mockMvc("exceptions", null, null);
+		int callers = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(callers * 2);
+		try {
+			List<Future<MockHttpServletResponse>> failing = new ArrayList<>();
+			List<Future<MockHttpServletResponse>> stuck = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				failing.add(executor.submit(() -> coalescingMockMvc.perform(get("/products/21")).andReturn().getResponse()));
+				stuck.add(executor.submit(() -> coalescingMockMvc.perform(get("/products/22")).andReturn().getResponse()));
+			}
+			while (singleFlight.coalescedCount() < 2 * (callers - 1)) {
+				Thread.sleep(1);
+			}
+			releaseFailing.countDown();
+			boolean failureShared = true;
+			for (Future<MockHttpServletResponse> response : failing) {
+				MockHttpServletResponse shared = response.get(10, TimeUnit.SECONDS);
+				failureShared &= shared.getStatus() == 500
+						&& shared.getContentAsString().equals(GenericException.DEFAULT_MESSAGE);
+			}
+			// the waiters on the stuck load give up at the deadline; the leader is served once the store answers
+			int timedOut = 0;
+			for (Future<MockHttpServletResponse> response : stuck) {
+				try {
+					MockHttpServletResponse waiter = response.get(2, TimeUnit.SECONDS);
+					timedOut += waiter.getStatus() == 504
+							&& waiter.getContentAsString().equals("Product lookup deadline exceeded.") ? 1 : 0;
+				} catch (java.util.concurrent.TimeoutException ex) {
+					// the leader, still in the store
+				}
+			}
+			releaseStuck.countDown();
+			boolean leaderServed = true;
+			for (Future<MockHttpServletResponse> response : stuck) {
+				int status = response.get(10, TimeUnit.SECONDS).getStatus();
+				leaderServed &= status == 504 || status == 200;
+			}
+
+			yakshaAssert(currentTest(), failureShared && timedOut == callers - 1 && leaderServed
+					&& singleFlight.inFlightCount() == 0 ? "true" : "false", businessTestFile);
+		} finally {
+			releaseFailing.countDown();
+			releaseStuck.countDown();
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.yaksha.assignment.functional;
+
+import static com.yaksha.assignment.functional.ProductWebFixture.entityManagerFactory;
+import static com.yaksha.assignment.functional.ProductWebFixture.performAsync;
+import static com.yaksha.assignment.utils.TestUtils.businessTestFile;
+import static com.yaksha.assignment.utils.TestUtils.currentTest;
+import static com.yaksha.assignment.utils.TestUtils.testReport;
+import static com.yaksha.assignment.utils.TestUtils.yakshaAssert;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaksha.assignment.controller.ProductExportController;
+import com.yaksha.assignment.exception.ExceptionFactory;
+import com.yaksha.assignment.metrics.ProductMetrics;
+import com.yaksha.assignment.ratelimit.StoreCircuitBreaker;
+import com.yaksha.assignment.repository.ProductExportRepository;
+import com.yaksha.assignment.repository.ProductRepository;
+import com.yaksha.assignment.service.ImportSummary;
+import com.yaksha.assignment.service.ProductCache;
+import com.yaksha.assignment.service.ProductImportService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+public class StoreCircuitBreakerTest {
+
+	private static final ProductWebFixture fixture = new ProductWebFixture();
+
+	@AfterAll
+	public static void afterAll() throws InterruptedException {
+		fixture.shutdown();
+		testReport();
+	}
+
+	@Test
+	public void testStoreCircuitBreaker_OpensOnFailingDatabase() throws Exception {
+		// Failed export reads open the breaker; then exports and import batches are rejected without a connection,
+		// while lookups, answered from the in-memory catalog, are still served
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true).build();
+		AtomicBoolean down = new AtomicBoolean();
+		AtomicInteger connections = new AtomicInteger();
+		DataSource failingDatabase = new DelegatingDataSource(database) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				connections.incrementAndGet();
+				if (down.get()) {
+					throw new SQLException("Connection refused");
+				}
+				return super.getConnection();
+			}
+		};
+		LocalContainerEntityManagerFactoryBean entityManagerFactory = entityManagerFactory(failingDatabase);
+		try {
+			StoreCircuitBreaker breaker = new StoreCircuitBreaker(true, 50, Duration.ofSeconds(1), 2, 10,
+					Duration.ofSeconds(60), 1, 20);
+			MockMvc exportMockMvc = MockMvcBuilders
+					.standaloneSetup(new ProductExportController(
+							new ProductExportRepository(new JdbcTemplate(failingDatabase), breaker, 1),
+							new ExceptionFactory(true, false, fixture.errorReporter()), new ProductMetrics(), Duration.ofSeconds(10)))
+					.build();
+			DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+			beans.registerSingleton("entityManagerFactory", entityManagerFactory.getObject());
+			ProductImportService importer = new ProductImportService(new ProductRepository(0),
+					new ProductCache(true, 10000, Duration.ofMinutes(10), 10000, Duration.ofSeconds(30)),
+					beans.getBeanProvider(EntityManagerFactory.class),
+					new JpaTransactionManager(entityManagerFactory.getObject()), breaker, 50);
+			down.set(true);
+
+			boolean failuresReported = true;
+			for (int i = 0; i < 2; i++) {
+				failuresReported &= performAsync(exportMockMvc, get("/catalog/export")).getContentAsString()
+						.contains("\"code\":1000");
+			}
+			int connectionsWhenOpened = connections.get();
+			String rejectedExport = performAsync(exportMockMvc, get("/catalog/export")).getContentAsString();
+			ImportSummary rejectedImport = new ObjectMapper().readValue(fixture.importMockMvc(importer, 2)
+					.perform(post("/products/import").contentType("application/x-ndjson")
+							.content("{\"id\":\"5001\",\"name\":\"Lamp\",\"priceCents\":1999}"))
+					.andReturn().getResponse().getContentAsString(), ImportSummary.class);
+			MockHttpServletResponse lookup = fixture.web(new ProductRepository(1000))
+					.mockMvc("exceptions", null, null).perform(get("/products/11")).andReturn().getResponse();
+
+			yakshaAssert(currentTest(), failuresReported && breaker.getState() == StoreCircuitBreaker.State.OPEN
+					&& rejectedExport.contains("\"code\":1006")
+					&& rejectedExport.contains("Product store unavailable, retry later.")
+					&& rejectedImport.rejected() == 1 && rejectedImport.errors().get(0).code() == 1006
+					&& lookup.getStatus() == 200
+					&& connections.get() == connectionsWhenOpened ? "true" : "false", businessTestFile);
+		} finally {
+			entityManagerFactory.destroy();
+			database.shutdown();
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package com.yaksha.assignment.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * Declarative set of structural checks on one source file, evaluated together
+ * in a single traversal of its (cached) compilation unit instead of one parse
+ * per check.
+ *
+ * <pre>
+ * CheckPlan.Result result = CheckPlan.forFile(path)
+ *         .classAnnotation("RestController")
+ *         .methodAnnotation("getProduct", "GetMapping")
+ *         .methodReturnType("getProduct", "ResponseEntity&lt;?&gt;")
+ *         .run();
+ * </pre>
+ *
+ * The checks mean the same as the matching JavaParserUtils methods and print
+ * the same error messages. Method checks apply to the first method with that
+ * name in the type named after the file. methodPresent has no per-method
+ * counterpart: it fails as the other method checks do for a missing method,
+ * whereas isMethodPresent only looks at interface methods.
+ */
+public class CheckPlan {
+
+	private final String filePath;
+	private final String className;
+	private final List<Check> checks = new ArrayList<>();
+	private final List<Check> classChecks = new ArrayList<>();
+	private final Map<String, List<Check>> methodChecks = new HashMap<>();
+
+	private CheckPlan(String filePath) {
+		this.filePath = filePath;
+		this.className = JavaParserUtils.getClassNameFromPath(filePath);
+	}
+
+	public static CheckPlan forFile(String filePath) {
+		return new CheckPlan(filePath);
+	}
+
+	public CheckPlan classAnnotation(String annotation) {
+		Check check = add((ClassOrInterfaceDeclaration type, Result result) -> {
+			if (!type.getAnnotations().stream().anyMatch(a -> a.getNameAsString().equals(annotation))) {
+				result.fail("Error: The class " + className + " is missing the @" + annotation + " annotation.");
+			}
+		});
+		classChecks.add(check);
+		return this;
+	}
+
+	public CheckPlan methodPresent(String methodName) {
+		addMethodCheck(methodName, (method, result) -> {
+		});
+		return this;
+	}
+
+	public CheckPlan methodAnnotation(String methodName, String annotation) {
+		addMethodCheck(methodName, (method, result) -> {
+			if (method.getAnnotationByName(annotation).isEmpty()) {
+				result.fail("Error: The method " + methodName + " is missing the @" + annotation
+						+ " annotation in class " + className + ".");
+			}
+		});
+		return this;
+	}
+
+	public CheckPlan methodParameterAnnotation(String methodName, String paramName, String annotation) {
+		addMethodCheck(methodName, (method, result) -> {
+			if (!method.getParameters().stream().anyMatch(param -> param.getNameAsString().equals(paramName)
+					&& param.getAnnotationByName(annotation).isPresent())) {
+				result.fail("Error: The parameter " + paramName + " in method " + methodName + " is missing the @"
+						+ annotation + " annotation.");
+			}
+		});
+		return this;
+	}
+
+	public CheckPlan methodReturnType(String methodName, String returnType) {
+		addMethodCheck(methodName, (method, result) -> {
+			if (!method.getType().asString().equals(returnType)) {
+				result.fail("Error: The return type of the method " + methodName + " is not " + returnType
+						+ " in class " + className + ".");
+			}
+		});
+		return this;
+	}
+
+	public CheckPlan statusKeywords(String methodName, List<String> keywords) {
+		addMethodCheck(methodName, (method, result) -> {
+			String body = result.body(method);
+			List<String> missing = keywords.stream().filter(keyword -> !body.contains(keyword))
+					.collect(Collectors.toList());
+			if (!missing.isEmpty()) {
+				result.fail("Error: The method " + methodName
+						+ " is missing the following required status-related keywords: " + String.join(", ", missing));
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Parses the file (or reuses its cached tree) and evaluates every check in
+	 * one pass. A file that cannot be read or parsed fails all checks.
+	 */
+	public Result run() {
+		Result result = new Result(checks.size());
+		Optional<CompilationUnit> compilationUnit;
+		try {
+			compilationUnit = JavaParserUtils.parseCached(JavaParserUtils.loadClassContent(filePath));
+		} catch (IOException e) {
+			result.failAll(checks, "Error: Class file not found at path: " + filePath);
+			return result;
+		}
+		if (compilationUnit.isEmpty()) {
+			result.failAll(checks, "Error: Failed to parse the class content at path: " + filePath);
+			return result;
+		}
+
+		Set<String> seen = new HashSet<>();
+		compilationUnit.get().accept(new VoidVisitorAdapter<Void>() {
+			@Override
+			public void visit(ClassOrInterfaceDeclaration type, Void arg) {
+				if (!type.getNameAsString().equals(className)) {
+					// the type may be nested
+					super.visit(type, arg);
+					return;
+				} else if (!seen.add(className)) {
+					return;
+				}
+				for (Check check : classChecks) {
+					result.evaluate(check, type);
+				}
+				for (MethodDeclaration method : type.getMethods()) {
+					List<Check> forMethod = seen.add("#" + method.getNameAsString())
+							? methodChecks.get(method.getNameAsString())
+							: null;
+					if (forMethod != null) {
+						for (Check check : forMethod) {
+							result.evaluate(check, method);
+						}
+					}
+				}
+			}
+		}, null);
+
+		if (!seen.contains(className)) {
+			result.failAll(checks, "Error: The class " + className + " was not found in " + filePath + ".");
+			return result;
+		}
+		methodChecks.forEach((methodName, forMethod) -> {
+			if (!seen.contains("#" + methodName)) {
+				result.failAll(forMethod,
+						"Error: The method " + methodName + " does not exist in the class " + className + ".");
+			}
+		});
+		return result;
+	}
+
+	private void addMethodCheck(String methodName, BiConsumer<MethodDeclaration, Result> test) {
+		Check check = add(test);
+		methodChecks.computeIfAbsent(methodName, name -> new ArrayList<>()).add(check);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Check add(BiConsumer<T, Result> test) {
+		Check check = new Check(checks.size(), (BiConsumer<Object, Result>) test);
+		checks.add(check);
+		return check;
+	}
+
+	private record Check(int index, BiConsumer<Object, Result> test) {
+	}
+
+	// Outcome of each check, in the order the checks were added
+	public static class Result {
+
+		private final boolean[] passed;
+		private final List<String> failures = new ArrayList<>();
+		// identity keys: node equality compares whole subtrees
+		private final Map<MethodDeclaration, String> bodies = new IdentityHashMap<>();
+		private Check current;
+
+		Result(int checks) {
+			this.passed = new boolean[checks];
+		}
+
+		public boolean passed() {
+			for (boolean check : passed) {
+				if (!check) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		public boolean passed(int index) {
+			return passed[index];
+		}
+
+		public List<String> failures() {
+			return Collections.unmodifiableList(failures);
+		}
+
+		void evaluate(Check check, Object node) {
+			current = check;
+			passed[check.index()] = true;
+			check.test().accept(node, this);
+		}
+
+		void fail(String message) {
+			passed[current.index()] = false;
+			report(message);
+		}
+
+		void failAll(List<Check> checks, String message) {
+			for (Check check : checks) {
+				passed[check.index()] = false;
+			}
+			report(message);
+		}
+
+		// Method bodies are printed once, however many keyword checks use them
+		String body(MethodDeclaration method) {
+			return bodies.computeIfAbsent(method, m -> m.getBody().map(Object::toString).orElse(""));
+		}
+
+		private void report(String message) {
+			System.out.println(message);
+			failures.add(message);
+		}
+	}
+}
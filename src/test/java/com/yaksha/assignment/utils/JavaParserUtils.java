@@ -4,14 +4,22 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
@@ -24,6 +32,10 @@ public class JavaParserUtils {
 
 	private static final Logger logger = Logger.getLogger(JavaParserUtils.class.getName());
 
+	// Parsed sources keyed by the SHA-256 of their content, so an edited file is parsed again
+	private static final Map<String, ParseResult<CompilationUnit>> AST_CACHE = new ConcurrentHashMap<>();
+	private static final int AST_CACHE_MAX_ENTRIES = 256;
+
 	/**
 	 * Loads the content of a class file from the given file path and parses it
 	 * using JavaParser.
@@ -32,7 +44,7 @@ public class JavaParserUtils {
 	 * @return The class content as a String.
 	 * @throws IOException If an error occurs while reading the file.
 	 */
-	private static String loadClassContent(String filePath) throws IOException {
+	static String loadClassContent(String filePath) throws IOException {
 		// Create a File object from the provided file path
 		File participantFile = new File(filePath);
 		if (!participantFile.exists()) {
@@ -47,13 +59,68 @@ public class JavaParserUtils {
 		}
 	}
 
+	// Reads the file without the console message of loadClassContent
+	private static String readFile(String filePath) throws IOException {
+		return new String(Files.readAllBytes(Paths.get(filePath)), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the compilation unit for the given source, parsing it only the
+	 * first time this exact content is seen. The cached trees are shared, so
+	 * callers must only read them.
+	 *
+	 * @param content The Java source.
+	 * @return The compilation unit (possibly partial if the source has syntax
+	 *         errors), or empty if nothing could be parsed.
+	 */
+	static Optional<CompilationUnit> parseCached(String content) {
+		return parseResult(content).getResult();
+	}
+
+	// As parseCached, but empty unless the source parsed without problems
+	private static Optional<CompilationUnit> parseCachedStrict(String content) {
+		ParseResult<CompilationUnit> parseResult = parseResult(content);
+		return parseResult.isSuccessful() ? parseResult.getResult() : Optional.empty();
+	}
+
+	private static ParseResult<CompilationUnit> parseResult(String content) {
+		String key = sha256(content);
+		ParseResult<CompilationUnit> cached = AST_CACHE.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		if (AST_CACHE.size() >= AST_CACHE_MAX_ENTRIES) {
+			AST_CACHE.clear();
+		}
+		// Java 17 level instead of the parser's default (Java 11). This changes results: files using records or
+		// pattern matching used to fail to parse, failing every check on them; they are now checked normally.
+		ParseResult<CompilationUnit> parseResult = new JavaParser(
+				new ParserConfiguration().setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17)).parse(content);
+		AST_CACHE.put(key, parseResult);
+		return parseResult;
+	}
+
+	// Drops every cached compilation unit
+	public static void clearCache() {
+		AST_CACHE.clear();
+	}
+
+	private static String sha256(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	/**
 	 * Retrieves the class name from the file path.
 	 * 
 	 * @param filePath The file path of the class.
 	 * @return The class name extracted from the file path.
 	 */
-	private static String getClassNameFromPath(String filePath) {
+	static String getClassNameFromPath(String filePath) {
 		// Extract class name from the file path (e.g., "ApiController.java" ->
 		// "ApiController")
 		int start = filePath.lastIndexOf("/") + 1;
@@ -70,8 +137,7 @@ public class JavaParserUtils {
 			return false;
 		}
 
-		JavaParser javaParser = new JavaParser();
-		Optional<CompilationUnit> optionalCompilationUnit = javaParser.parse(classContent).getResult();
+		Optional<CompilationUnit> optionalCompilationUnit = parseCached(classContent);
 		if (optionalCompilationUnit.isEmpty()) {
 			System.out.println("Error: Failed to parse the class content at path: " + filePath);
 			return false;
@@ -99,8 +165,7 @@ public class JavaParserUtils {
 			return false;
 		}
 
-		JavaParser javaParser = new JavaParser();
-		Optional<CompilationUnit> optionalCompilationUnit = javaParser.parse(classContent).getResult();
+		Optional<CompilationUnit> optionalCompilationUnit = parseCached(classContent);
 		if (optionalCompilationUnit.isEmpty()) {
 			System.out.println("Error: Failed to parse the class content at path: " + filePath);
 			return false;
@@ -136,8 +201,7 @@ public class JavaParserUtils {
 			return false;
 		}
 
-		JavaParser javaParser = new JavaParser();
-		Optional<CompilationUnit> optionalCompilationUnit = javaParser.parse(classContent).getResult();
+		Optional<CompilationUnit> optionalCompilationUnit = parseCached(classContent);
 		if (optionalCompilationUnit.isEmpty()) {
 			System.out.println("Error: Failed to parse the class content at path: " + filePath);
 			return false;
@@ -175,8 +239,7 @@ public class JavaParserUtils {
 			return false;
 		}
 
-		JavaParser javaParser = new JavaParser();
-		Optional<CompilationUnit> optionalCompilationUnit = javaParser.parse(classContent).getResult();
+		Optional<CompilationUnit> optionalCompilationUnit = parseCached(classContent);
 		if (optionalCompilationUnit.isEmpty()) {
 			System.out.println("Error: Failed to parse the class content at path: " + filePath);
 			return false;
@@ -212,8 +275,7 @@ public class JavaParserUtils {
 			return false;
 		}
 
-		JavaParser javaParser = new JavaParser();
-		Optional<CompilationUnit> optionalCompilationUnit = javaParser.parse(classContent).getResult();
+		Optional<CompilationUnit> optionalCompilationUnit = parseCached(classContent);
 		if (optionalCompilationUnit.isEmpty()) {
 			System.out.println("Error: Failed to parse the class content at path: " + filePath);
 			return false;
@@ -269,20 +331,16 @@ public class JavaParserUtils {
 
 	// Helper method to parse the file
 	private static CompilationUnit parseFile(String filePath) throws IOException {
-		FileInputStream fileInputStream = new FileInputStream(new File(filePath));
-		JavaParser parser = new JavaParser(); // Create an instance of JavaParser
-		return parser.parse(fileInputStream).getResult()
-				.orElseThrow(() -> new IOException("Failed to parse the Java file"));
+		return parseCachedStrict(readFile(filePath)).orElseThrow(() -> new IOException("Failed to parse the Java file"));
 	}
 
 	public static boolean isInterfaceAnnotated(String filePath, String annotationName) throws IOException {
 		logger.log(Level.INFO, "Checking if interface is annotated with {0} in file {1}",
 				new Object[] { annotationName, filePath });
-		FileInputStream in = new FileInputStream(filePath);
-		ParseResult<CompilationUnit> parseResult = new JavaParser().parse(in);
+		Optional<CompilationUnit> parsed = parseCachedStrict(readFile(filePath));
 
-		if (parseResult.isSuccessful() && parseResult.getResult().isPresent()) {
-			CompilationUnit cu = parseResult.getResult().get();
+		if (parsed.isPresent()) {
+			CompilationUnit cu = parsed.get();
 
 			InterfaceAnnotationVisitor visitor = new InterfaceAnnotationVisitor(annotationName);
 			cu.accept(visitor, null);
@@ -297,11 +355,10 @@ public class JavaParserUtils {
 			throws IOException {
 		logger.log(Level.INFO, "Checking if method {0} in interface has annotation {1} in file {2}",
 				new Object[] { methodName, annotationName, filePath });
-		FileInputStream in = new FileInputStream(filePath);
-		ParseResult<CompilationUnit> parseResult = new JavaParser().parse(in);
+		Optional<CompilationUnit> parsed = parseCachedStrict(readFile(filePath));
 
-		if (parseResult.isSuccessful() && parseResult.getResult().isPresent()) {
-			CompilationUnit cu = parseResult.getResult().get();
+		if (parsed.isPresent()) {
+			CompilationUnit cu = parsed.get();
 
 			MethodAnnotationVisitor visitor = new MethodAnnotationVisitor(methodName, annotationName);
 			cu.accept(visitor, null);
@@ -344,11 +401,10 @@ public class JavaParserUtils {
 	public static boolean isMethodPresent(String filePath, String methodName) throws IOException {
 		logger.log(Level.INFO, "Checking if method {0} is present in interface in file {1}",
 				new Object[] { methodName, filePath });
-		FileInputStream in = new FileInputStream(filePath);
-		ParseResult<CompilationUnit> parseResult = new JavaParser().parse(in);
+		Optional<CompilationUnit> parsed = parseCachedStrict(readFile(filePath));
 
-		if (parseResult.isSuccessful() && parseResult.getResult().isPresent()) {
-			CompilationUnit cu = parseResult.getResult().get();
+		if (parsed.isPresent()) {
+			CompilationUnit cu = parsed.get();
 
 			MethodPresenceVisitor visitor = new MethodPresenceVisitor(methodName);
 			cu.accept(visitor, null);
@@ -0,0 +1,126 @@
+package com.yaksha.assignment.utils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Buffers assertion results and pushes them, with retry, when flushed: one request per result over a shared
+// client, or one batched request when batching is turned on
+
+public class ResultPublisher {
+
+	private static final int MAX_ATTEMPTS = 3;
+	private static final int MAX_CONCURRENT = 8;
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final String url;
+	private final boolean batched;
+	private final ObjectMapper mapper;
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+	private final Queue<TestResults> pending = new ConcurrentLinkedQueue<>();
+
+	// An empty url or "none" drops results instead of sending them
+	public ResultPublisher(String url, boolean batched, ObjectMapper mapper) {
+		this.url = url;
+		this.batched = batched;
+		this.mapper = mapper;
+	}
+
+	public void add(TestResults results) {
+		pending.add(results);
+	}
+
+	/**
+	 * Sends everything buffered so far. By default each result is posted as its
+	 * own JSON object, the format the results endpoint takes, up to eight
+	 * requests at a time. Batched, they go
+	 * as one JSON array, and a 4xx answer to it falls back to one request per
+	 * result. 5xx answers and I/O errors are retried.
+	 */
+	public synchronized void flush() {
+		List<TestResults> batch = new ArrayList<>();
+		for (TestResults results; (results = pending.poll()) != null;) {
+			batch.add(results);
+		}
+		if (batch.isEmpty() || url == null || url.isBlank() || url.equalsIgnoreCase("none")) {
+			return;
+		}
+		if (batched) {
+			int status = send(batch);
+			// a 4xx means the endpoint does not take batches
+			if (status < 400 || status >= 500) {
+				report(status, batch.get(0));
+				return;
+			}
+		}
+		// one request per result, several at a time, so retries against a slow endpoint do not add up
+		ExecutorService senders = Executors.newFixedThreadPool(Math.min(MAX_CONCURRENT, batch.size()));
+		for (TestResults results : batch) {
+			senders.execute(() -> report(send(results), results));
+		}
+		senders.shutdown();
+		// long enough for every request to time out on every attempt
+		long rounds = (batch.size() + MAX_CONCURRENT - 1) / MAX_CONCURRENT;
+		try {
+			senders.awaitTermination(rounds * MAX_ATTEMPTS * (TIMEOUT.toMillis() + 1000), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Returns the final HTTP status, or -1 when no response was received
+	private int send(Object body) {
+		String json;
+		try {
+			json = mapper.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			e.printStackTrace();
+			return -1;
+		}
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT)
+				.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json)).build();
+		int status = -1;
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			try {
+				status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+				if (status < 500) {
+					return status;
+				}
+			} catch (IOException e) {
+				status = -1;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return -1;
+			}
+			try {
+				Thread.sleep(200L * attempt);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return status;
+			}
+		}
+		return status;
+	}
+
+	private static void report(int status, TestResults results) {
+		if (!(status == 200 || status == 201)) {
+			int length = results.getCustomData() != null ? results.getCustomData().length() : 0;
+			System.out.println(TestUtils.RED_BOLD_BRIGHT + "⚠️ Unable to push test cases,please try again! [" + status
+					+ "|" + results.getHostName() + "|" + results.getAttemptId() + "|" + length + "]"
+					+ TestUtils.TEXT_RESET);
+		}
+	}
+}
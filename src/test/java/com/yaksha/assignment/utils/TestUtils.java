@@ -1,18 +1,13 @@
 package com.yaksha.assignment.utils;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -28,11 +23,10 @@ public class TestUtils {
 	public static final String YELLOW_BOLD_BRIGHT = "\033[1;93m";// YELLOW
 	public static final String BLUE_BOLD_BRIGHT = "\033[1;94m"; // BLUE
 
-	public static String testResult;
-
-	public static int total;
-	public static int passed;
-	public static int failed;
+	// Striped counters: assertions may run concurrently under JUnit parallel execution
+	public static final LongAdder total = new LongAdder();
+	public static final LongAdder passed = new LongAdder();
+	public static final LongAdder failed = new LongAdder();
 
 	public static File businessTestFile;
 	public static File boundaryTestFile;
@@ -42,14 +36,16 @@ public class TestUtils {
 	public static final String GUID = "6ed39465-d6d3-4ec4-b27d-1dcb870b2992";
 	public static String customData;
 	public static final String URL =  "https://compiler.techademy.com/v1/mfa-results/push";
+	// -Dyaksha.results.url or YAKSHA_RESULTS_URL overrides URL, e.g. with a local stand-in server; "none" disables
+	public static final String URL_PROPERTY = "yaksha.results.url";
+	// -Dyaksha.results.batch=true or YAKSHA_RESULTS_BATCH=true sends all results as one JSON array, for endpoints
+	// that accept it
+	public static final String BATCH_PROPERTY = "yaksha.results.batch";
 
-	static {
-		total = 0;
-		passed = 0;
-		failed = 0;
-
-		testResult = "";
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final ResultPublisher PUBLISHER;
 
+	static {
 		businessTestFile = new File("./output_revised.txt");
 		businessTestFile.delete();
 
@@ -58,6 +54,32 @@ public class TestUtils {
 
 		exceptionTestFile = new File("./output_exception_revised.txt");
 		exceptionTestFile.delete();
+
+		customData = "";
+		try {
+			customData = readData("../custom.ih");
+		} catch (Exception e) {
+		}
+
+		PUBLISHER = new ResultPublisher(resultsUrl(), batchResults(), MAPPER);
+		// results not flushed by testReport() are still sent when the JVM exits
+		Runtime.getRuntime().addShutdownHook(new Thread(PUBLISHER::flush));
+	}
+
+	private static String resultsUrl() {
+		String url = System.getProperty(URL_PROPERTY);
+		if (url == null) {
+			url = System.getenv("YAKSHA_RESULTS_URL");
+		}
+		return url != null ? url : URL;
+	}
+
+	private static boolean batchResults() {
+		String batch = System.getProperty(BATCH_PROPERTY);
+		if (batch == null) {
+			batch = System.getenv("YAKSHA_RESULTS_BATCH");
+		}
+		return Boolean.parseBoolean(batch);
 	}
 
 	private static String readData(String filePath) {
@@ -77,11 +99,6 @@ public class TestUtils {
 		TestResults testResults = new TestResults();
 		Map<String, TestCaseResultDto> testCaseResults = new HashMap<String, TestCaseResultDto>();
 
-        customData = "";
-        try{
-		    customData = readData("../custom.ih");
-		}catch(Exception e)	{}
-
 		String resultStatus = "Failed";
 		int resultScore = 0;
 		if (result.toString().equals("true")) {
@@ -114,75 +131,38 @@ public class TestUtils {
 		testResults.setFilePath(filePath);
 
 
-		int length = 0;
-		if(customData != null) {length = customData.length(); }
-
-		try {
-
-			URL url = new URL(URL);
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setDoOutput(true);
-			conn.setRequestMethod("POST");
-			conn.setRequestProperty("Content-Type", "application/json");
-
-			//	String input = "{\"qty\":100,\"name\":\"iPad 4\"}";
-			String input = asJsonString(testResults);
-			OutputStream os = conn.getOutputStream();
-			os.write(input.getBytes());
-			os.flush();
-			os.close();
-
-			int responseCode = conn.getResponseCode();
-			if (!(responseCode == HttpURLConnection.HTTP_OK  || responseCode == HttpURLConnection.HTTP_CREATED)) {
-				System.out.println(RED_BOLD_BRIGHT + "⚠️ Unable to push test cases,please try again! [" + responseCode +"|" + hostName +"|" + AttemptId + "|" + length + "]" + TEXT_RESET);
-			}
-
-			// BufferedReader br = new BufferedReader(new InputStreamReader((conn.getInputStream())));
-
-			// // String output;
-			// // while ((output = br.readLine()) != null) {
-			// // 	System.out.println(output);
-			// // }
-
-			conn.disconnect();
-
-		} catch (MalformedURLException e) {
-
-			e.printStackTrace();
-
-		} catch (IOException e) {
-
-			e.printStackTrace();
-
-		}
+		PUBLISHER.add(testResults);
 
-		total++;
+		total.increment();
+		// One println per assertion, so lines from concurrent tests do not interleave
 		String[] r = testName.split("(?=\\p{Upper})");
-		System.out.print("\n" + BLUE_BOLD_BRIGHT + "=>");
+		StringBuilder line = new StringBuilder("\n").append(BLUE_BOLD_BRIGHT).append("=>");
 
-		System.out.print(YELLOW_BOLD_BRIGHT + "Test For : ");
+		line.append(YELLOW_BOLD_BRIGHT).append("Test For : ");
 
 		for (int i = 1; i < r.length; i++) {
-			System.out.print(YELLOW_BOLD_BRIGHT + r[i] + " ");
+			line.append(YELLOW_BOLD_BRIGHT).append(r[i]).append(" ");
 
 		}
-		System.out.print(" : ");
+		line.append(" : ");
 
 		if (result.toString().equals("true")) {
-			System.out.println(GREEN_BOLD_BRIGHT + "PASSED" + TEXT_RESET);
-			passed++;
+			line.append(GREEN_BOLD_BRIGHT).append("PASSED").append(TEXT_RESET);
+			passed.increment();
 		} else {
-			System.out.println(RED_BOLD_BRIGHT + "FAILED" + TEXT_RESET);
-			failed++;
+			line.append(RED_BOLD_BRIGHT).append("FAILED").append(TEXT_RESET);
+			failed.increment();
 		}
+		System.out.println(line);
 	}
 
 	public static void testReport() {
 
-		System.out.print("\n" + BLUE_BOLD_BRIGHT + "TEST CASES EVALUATED : " + total + TEXT_RESET);
-		System.out.print("\n" + GREEN_BOLD_BRIGHT + "PASSED : " + passed + TEXT_RESET);
-		System.out.println("\n" + RED_BOLD_BRIGHT + "FAILED : " + failed + TEXT_RESET);
+		System.out.println("\n" + BLUE_BOLD_BRIGHT + "TEST CASES EVALUATED : " + total.sum() + TEXT_RESET + "\n"
+				+ GREEN_BOLD_BRIGHT + "PASSED : " + passed.sum() + TEXT_RESET + "\n" + RED_BOLD_BRIGHT + "FAILED : "
+				+ failed.sum() + TEXT_RESET);
 
+		PUBLISHER.flush();
 	}
 
 	public static String currentTest() {
@@ -191,10 +171,9 @@ public class TestUtils {
 
 	// convert object into JSON
 	public static String asJsonString(Object obj) {
-		ObjectMapper mapper = new ObjectMapper();
 		String jsonString = "";
 		try {
-			jsonString = mapper.writeValueAsString(obj);
+			jsonString = MAPPER.writeValueAsString(obj);
 //			System.out.println("jsonString");
 //			System.out.println(jsonString);
 		} catch (JsonProcessingException e) {